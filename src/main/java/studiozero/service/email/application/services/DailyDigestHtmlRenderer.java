@@ -0,0 +1,69 @@
+package studiozero.service.email.application.services;
+
+import studiozero.service.email.domain.dtos.SubJob;
+import studiozero.service.email.domain.dtos.Task;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+public class DailyDigestHtmlRenderer {
+    public static final String LOGO = "logo.png";
+    public static final String SUBJOB_ICON = "icon-subjob.png";
+    public static final String TASK_ICON = "icon-task.png";
+
+    private static final List<String> INLINE_ASSETS = List.of(LOGO, SUBJOB_ICON, TASK_ICON);
+
+    private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public List<String> inlineAssets() {
+        return INLINE_ASSETS;
+    }
+
+    public String render(List<SubJob> subJobs, List<Task> tasks) {
+        StringBuilder html = new StringBuilder(512 + 160 * (subJobs.size() + tasks.size()));
+        html.append("<!DOCTYPE html><html lang=\"pt-BR\"><head><meta charset=\"UTF-8\"></head>")
+                .append("<body style=\"font-family:Arial,sans-serif;color:#222\">")
+                .append("<img src=\"cid:").append(LOGO).append("\" alt=\"StudioZero\" height=\"48\">")
+                .append("<p>Olá, aqui está suas tarefas e atendimentos do dia!</p>");
+
+        html.append("<h3>Atendimentos para hoje</h3><ul style=\"list-style:none;padding:0\">");
+        for (SubJob sj : subJobs) {
+            String clientName = sj.clientName() != null ? sj.clientName() : "Não informado";
+            item(html, SUBJOB_ICON);
+            escape(html, sj.title()).append(" <small>(Cliente: ");
+            escape(html, clientName).append(")</small></li>");
+        }
+        html.append("</ul>");
+
+        html.append("<h3>Tarefas para hoje</h3><ul style=\"list-style:none;padding:0\">");
+        for (Task t : tasks) {
+            item(html, TASK_ICON);
+            escape(html, t.title()).append(" <small>(Prazo: ")
+                    .append(t.limitDate().format(dateFormatter)).append(")</small></li>");
+        }
+        html.append("</ul></body></html>");
+        return html.toString();
+    }
+
+    private void item(StringBuilder html, String icon) {
+        html.append("<li><img src=\"cid:").append(icon).append("\" alt=\"\" width=\"16\" height=\"16\"> ");
+    }
+
+    private StringBuilder escape(StringBuilder html, String value) {
+        if (value == null) {
+            return html;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '&' -> html.append("&amp;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(c);
+            }
+        }
+        return html;
+    }
+}
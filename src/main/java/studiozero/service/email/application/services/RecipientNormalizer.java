@@ -0,0 +1,86 @@
+package studiozero.service.email.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class RecipientNormalizer {
+    private static final int MAX_ADDRESS_LENGTH = 254;
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+            "^[a-z0-9!#$%&'*+/=?^_`{|}~-]+(\\.[a-z0-9!#$%&'*+/=?^_`{|}~-]+)*"
+                    + "@([a-z0-9]([a-z0-9-]{0,61}[a-z0-9])?\\.)+[a-z][a-z0-9-]{0,61}[a-z0-9]$"
+    );
+
+    private final Logger log = LoggerFactory.getLogger(RecipientNormalizer.class);
+    private final MxRecordRepository mxRecordRepository;
+    private final boolean checkMxRecords;
+    private final SuppressionRepository suppressionRepository;
+
+    public RecipientNormalizer(MxRecordRepository mxRecordRepository,
+                               boolean checkMxRecords,
+                               SuppressionRepository suppressionRepository) {
+        this.mxRecordRepository = mxRecordRepository;
+        this.checkMxRecords = checkMxRecords;
+        this.suppressionRepository = suppressionRepository;
+    }
+
+    public List<String> normalize(List<String> to) {
+        Set<String> accepted = new LinkedHashSet<>(to.size());
+
+        for (String raw : to) {
+            String address = normalizeAddress(raw);
+
+            if (!isValid(address)) {
+                log.warn("❌ Rejected recipient with invalid syntax: {}", raw);
+                continue;
+            }
+
+            if (accepted.contains(address)) {
+                continue;
+            }
+
+            if (suppressionRepository.isSuppressed(address)) {
+                log.debug("🚫 Skipped suppressed recipient: {}", address);
+                continue;
+            }
+
+            if (checkMxRecords && !mxRecordRepository.hasMxRecord(domainOf(address))) {
+                log.warn("❌ Rejected recipient without MX records: {}", raw);
+                continue;
+            }
+
+            accepted.add(address);
+        }
+
+        return new ArrayList<>(accepted);
+    }
+
+    public static String normalizeAddress(String raw) {
+        if (raw == null) {
+            return null;
+        }
+
+        String address = raw.trim();
+        if (address.isEmpty() || address.length() > MAX_ADDRESS_LENGTH) {
+            return null;
+        }
+        return address.toLowerCase(Locale.ROOT);
+    }
+
+    public static boolean isValid(String address) {
+        return address != null && EMAIL_PATTERN.matcher(address).matches();
+    }
+
+    private String domainOf(String address) {
+        return address.substring(address.lastIndexOf('@') + 1);
+    }
+}
@@ -2,11 +2,15 @@ package studiozero.service.email.application.usecases;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import studiozero.service.email.application.services.DailyDigestHtmlRenderer;
+import studiozero.service.email.application.services.RecipientNormalizer;
 import studiozero.service.email.domain.dtos.SubJob;
 import studiozero.service.email.domain.dtos.Task;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
 import studiozero.service.email.domain.repositories.SendEmailRepository;
 import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
 
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
@@ -14,10 +18,22 @@ import java.util.List;
 public class SendDailyEmailUseCase {
     private final Logger log = LoggerFactory.getLogger(SendDailyEmailUseCase.class);
     private final SendEmailRepository sendEmailRepository;
+    private final RecipientNormalizer recipientNormalizer;
+    private final ScheduledEmailRepository scheduledEmailRepository;
+    private final DailyDigestHtmlRenderer htmlRenderer;
+    private final boolean htmlEnabled;
     private final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
-    public SendDailyEmailUseCase(SendEmailRepository sendEmailRepository) {
+    public SendDailyEmailUseCase(SendEmailRepository sendEmailRepository,
+                                 RecipientNormalizer recipientNormalizer,
+                                 ScheduledEmailRepository scheduledEmailRepository,
+                                 DailyDigestHtmlRenderer htmlRenderer,
+                                 boolean htmlEnabled) {
         this.sendEmailRepository = sendEmailRepository;
+        this.recipientNormalizer = recipientNormalizer;
+        this.scheduledEmailRepository = scheduledEmailRepository;
+        this.htmlRenderer = htmlRenderer;
+        this.htmlEnabled = htmlEnabled;
     }
 
     public void execute(ConsumeEmailEventDto eventDto) {
@@ -29,18 +45,30 @@ public class SendDailyEmailUseCase {
             throw new IllegalArgumentException("Lista de destinatários vazia ou nula");
         }
 
-        if (eventDto.subJobs().isEmpty() && eventDto.tasks().isEmpty()) {
-            log.info("📭 No tasks or subservices found for today");
-            String subjectNoDuties = "StudioZero: Sem deveres para hoje";
-            String contentNoDuties = "Não há atendimentos ou tarefas para hoje";
-            sendEmailRepository.sendEmail(eventDto.to(), subjectNoDuties, contentNoDuties);
-            log.info("📧 Notification emails sent successfully to: {}", eventDto.to());
+        if (eventDto.sendAt() != null && eventDto.sendAt().isAfter(OffsetDateTime.now())) {
+            scheduledEmailRepository.schedule(eventDto, eventDto.sendAt().toInstant());
+            log.info("⏰ Email scheduled to be sent at {}", eventDto.sendAt());
+            return;
+        }
+
+        List<String> recipients = recipientNormalizer.normalize(eventDto.to());
+        if (recipients.isEmpty()) {
+            log.warn("❌ No valid recipients left after validation, event discarded");
             return;
         }
 
         List<SubJob> subJobsToday = eventDto.subJobs() != null ? eventDto.subJobs() : Collections.emptyList() ;
         List<Task> tasksToday = eventDto.tasks() != null ? eventDto.tasks() : Collections.emptyList();
 
+        if (subJobsToday.isEmpty() && tasksToday.isEmpty()) {
+            log.info("📭 No tasks or subservices found for today");
+            String subjectNoDuties = "StudioZero: Sem deveres para hoje";
+            String contentNoDuties = "Não há atendimentos ou tarefas para hoje";
+            sendEmailRepository.sendEmail(recipients, subjectNoDuties, contentNoDuties, eventDto);
+            log.info("📧 Notification emails dispatched to {} recipients", recipients.size());
+            return;
+        }
+
         StringBuilder content = new StringBuilder();
         content.append("Olá, aqui está suas tarefas e atendimentos do dia!.\n\n");
 
@@ -58,6 +86,13 @@ public class SendDailyEmailUseCase {
         }
 
         String subject = "StudioZero: Você tem deveres para hoje!";
-        sendEmailRepository.sendEmail(eventDto.to(), subject, content.toString());
+        if (!htmlEnabled) {
+            sendEmailRepository.sendEmail(recipients, subject, content.toString(), eventDto);
+            return;
+        }
+
+        String html = htmlRenderer.render(subJobsToday, tasksToday);
+        sendEmailRepository.sendHtmlEmail(recipients, subject, content.toString(), html, htmlRenderer.inlineAssets(),
+                eventDto);
     }
 }
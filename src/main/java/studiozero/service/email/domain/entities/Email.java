@@ -8,10 +8,10 @@ public class Email {
     private String body;
 
     public Email(List<String> to, String subject, String body) {
-        validateEmail();
         this.to = to;
         this.subject = subject;
         this.body = body;
+        validateEmail();
     }
 
     public Email() {
@@ -0,0 +1,5 @@
+package studiozero.service.email.domain.repositories;
+
+public interface MxRecordRepository {
+    boolean hasMxRecord(String domain);
+}
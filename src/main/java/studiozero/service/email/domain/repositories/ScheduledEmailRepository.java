@@ -0,0 +1,9 @@
+package studiozero.service.email.domain.repositories;
+
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+
+import java.time.Instant;
+
+public interface ScheduledEmailRepository {
+    void schedule(ConsumeEmailEventDto eventDto, Instant sendAt);
+}
@@ -1,8 +1,12 @@
 package studiozero.service.email.domain.repositories;
 
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
 
 import java.util.List;
 
 public interface SendEmailRepository {
-    void sendEmail(List<String> to, String subject, String body);
+    void sendEmail(List<String> to, String subject, String body, ConsumeEmailEventDto source);
+
+    void sendHtmlEmail(List<String> to, String subject, String textBody, String htmlBody, List<String> inlineAssets,
+                       ConsumeEmailEventDto source);
 }
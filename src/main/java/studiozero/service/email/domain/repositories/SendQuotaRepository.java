@@ -0,0 +1,10 @@
+package studiozero.service.email.domain.repositories;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public interface SendQuotaRepository {
+    boolean tryAcquire(Duration maxWait);
+
+    Instant reserveRetrySlot();
+}
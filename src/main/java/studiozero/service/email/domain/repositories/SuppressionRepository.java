@@ -0,0 +1,13 @@
+package studiozero.service.email.domain.repositories;
+
+import java.util.Collection;
+
+public interface SuppressionRepository {
+    boolean isSuppressed(String email);
+
+    void suppress(String email, String reason);
+
+    int suppressAll(Collection<String> emails, String reason);
+
+    boolean unsuppress(String email);
+}
@@ -1,7 +1,9 @@
 package studiozero.service.email.infrastructure.configs;
 
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,4 +25,9 @@ public class RabbitConfig {
         converter.setJavaTypeMapper(typeMapper);
         return converter;
     }
+
+    @Bean
+    public Queue scheduledEmailQueue(@Value("${broker.scheduled-email-queue}") String name) {
+        return new Queue(name, true);
+    }
 }
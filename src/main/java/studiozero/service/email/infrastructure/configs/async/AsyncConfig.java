@@ -1,22 +1,27 @@
 package studiozero.service.email.infrastructure.configs.async;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class AsyncConfig {
 
     // ======= Config para eventos assíncronos de envio de emails
+    // ======= Nasce com core = max; o ConcurrencyAutoscaler move os dois
     @Bean("emailSenderTaskExecutor")
-    public Executor emailSenderTaskExecutor() {
+    public ThreadPoolTaskExecutor emailSenderTaskExecutor(
+            @Value("${email.autoscaling.sender.min-threads:5}") int minThreads) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
+        executor.setCorePoolSize(minThreads);
+        executor.setMaxPoolSize(minThreads);
         executor.setQueueCapacity(35);
         executor.setThreadNamePrefix("email-");
+        // ======= Fila cheia: quem submeteu executa o envio
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
         return executor;
     }
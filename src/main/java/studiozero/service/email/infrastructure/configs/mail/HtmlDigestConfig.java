@@ -0,0 +1,25 @@
+package studiozero.service.email.infrastructure.configs.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import studiozero.service.email.application.services.DailyDigestHtmlRenderer;
+import studiozero.service.email.infrastructure.mail.InlineAssetCache;
+
+@Configuration
+public class HtmlDigestConfig {
+
+    @Bean
+    public InlineAssetCache inlineAssetCache(
+            ResourceLoader resourceLoader,
+            @Value("${email.html.asset-location:classpath:email/assets/}") String location,
+            @Value("${email.html.asset-cache-max-bytes:1048576}") long maxEncodedBytes) {
+        return new InlineAssetCache(resourceLoader, location, maxEncodedBytes);
+    }
+
+    @Bean
+    public DailyDigestHtmlRenderer dailyDigestHtmlRenderer() {
+        return new DailyDigestHtmlRenderer();
+    }
+}
@@ -0,0 +1,60 @@
+package studiozero.service.email.infrastructure.configs.quota;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import studiozero.service.email.domain.repositories.SendQuotaRepository;
+import studiozero.service.email.infrastructure.gateways.DisabledSendQuotaGateway;
+import studiozero.service.email.infrastructure.gateways.RedisSendQuotaGateway;
+import studiozero.service.email.infrastructure.ratelimit.LocalWindowCounter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class SendQuotaConfig {
+
+    @Bean
+    public SendQuotaRepository sendQuotaRepository(
+            StringRedisTemplate redisTemplate,
+            @Value("${email.quota.enabled:true}") boolean enabled,
+            @Value("${email.quota.key-prefix:email-quota}") String keyPrefix,
+            @Value("${email.quota.per-minute:60}") long perMinute,
+            @Value("${email.quota.per-day:2000}") long perDay,
+            @Value("${email.quota.lease-size:10}") int leaseSize,
+            @Value("${email.quota.lease-ttl:5s}") Duration leaseTtl,
+            @Value("${email.quota.fallback-per-minute:5}") long fallbackPerMinute,
+            @Value("${email.quota.fallback-per-day:200}") long fallbackPerDay,
+            @Value("${email.quota.redis-retry-interval:30s}") Duration redisRetryInterval,
+            @Value("${email.quota.wait:200ms}") Duration wait) {
+        if (!enabled) {
+            return new DisabledSendQuotaGateway();
+        }
+
+        Clock clock = Clock.systemUTC();
+        return new RedisSendQuotaGateway(
+                redisTemplate,
+                listScript("scripts/send-quota.lua"),
+                RedisScript.of(new ClassPathResource("scripts/refund-quota.lua"), Long.class),
+                keyPrefix,
+                perMinute,
+                perDay,
+                leaseSize,
+                leaseTtl,
+                new LocalWindowCounter(fallbackPerMinute, Duration.ofMinutes(1), clock),
+                new LocalWindowCounter(fallbackPerDay, Duration.ofDays(1), clock),
+                redisRetryInterval,
+                wait,
+                clock
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static RedisScript<List<Long>> listScript(String location) {
+        return (RedisScript) RedisScript.of(new ClassPathResource(location), List.class);
+    }
+}
@@ -0,0 +1,38 @@
+package studiozero.service.email.infrastructure.configs.recipients;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import studiozero.service.email.application.services.RecipientNormalizer;
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.gateways.CachedMxRecordGateway;
+import studiozero.service.email.infrastructure.gateways.DnsMxRecordGateway;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class RecipientNormalizerConfig {
+
+    @Bean
+    public MxRecordRepository mxRecordRepository(
+            @Value("${email.recipients.mx-lookup-timeout:2s}") Duration lookupTimeout,
+            @Value("${email.recipients.mx-cache-ttl:1h}") Duration cacheTtl,
+            @Value("${email.recipients.mx-cache-max-size:10000}") int cacheMaxSize) {
+        return new CachedMxRecordGateway(
+                new DnsMxRecordGateway(lookupTimeout.toMillis()),
+                cacheTtl,
+                cacheMaxSize,
+                Clock.systemUTC()
+        );
+    }
+
+    @Bean
+    public RecipientNormalizer recipientNormalizer(
+            MxRecordRepository mxRecordRepository,
+            @Value("${email.recipients.mx-check-enabled:false}") boolean checkMxRecords,
+            SuppressionRepository suppressionRepository) {
+        return new RecipientNormalizer(mxRecordRepository, checkMxRecords, suppressionRepository);
+    }
+}
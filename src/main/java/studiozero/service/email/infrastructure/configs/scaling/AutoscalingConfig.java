@@ -0,0 +1,28 @@
+package studiozero.service.email.infrastructure.configs.scaling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import studiozero.service.email.infrastructure.scaling.HysteresisScaler;
+
+@Configuration
+public class AutoscalingConfig {
+
+    @Bean
+    public HysteresisScaler listenerScaler(
+            @Value("${email.autoscaling.listener.min-consumers:1}") int minConsumers,
+            @Value("${email.autoscaling.listener.max-consumers:5}") int maxConsumers,
+            @Value("${email.autoscaling.scale-up-samples:2}") int scaleUpSamples,
+            @Value("${email.autoscaling.scale-down-samples:6}") int scaleDownSamples) {
+        return new HysteresisScaler(minConsumers, maxConsumers, scaleUpSamples, scaleDownSamples);
+    }
+
+    @Bean
+    public HysteresisScaler senderScaler(
+            @Value("${email.autoscaling.sender.min-threads:5}") int minThreads,
+            @Value("${email.autoscaling.sender.max-threads:20}") int maxThreads,
+            @Value("${email.autoscaling.scale-up-samples:2}") int scaleUpSamples,
+            @Value("${email.autoscaling.scale-down-samples:6}") int scaleDownSamples) {
+        return new HysteresisScaler(minThreads, maxThreads, scaleUpSamples, scaleDownSamples);
+    }
+}
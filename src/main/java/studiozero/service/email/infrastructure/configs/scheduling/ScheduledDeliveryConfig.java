@@ -0,0 +1,22 @@
+package studiozero.service.email.infrastructure.configs.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import studiozero.service.email.infrastructure.scheduling.HierarchicalTimingWheel;
+
+import java.time.Duration;
+
+@Configuration
+public class ScheduledDeliveryConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "email.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+    public HierarchicalTimingWheel<Long> scheduledEmailWheel(
+            @Value("${email.scheduling.tick-millis:1000}") long tickMillis,
+            @Value("${email.scheduling.wheel-slots:64}") int slotsPerLevel,
+            @Value("${email.scheduling.wheel-levels:4}") int levels) {
+        return new HierarchicalTimingWheel<>(Duration.ofMillis(tickMillis), slotsPerLevel, levels, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,18 @@
+package studiozero.service.email.infrastructure.configs.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import studiozero.service.email.infrastructure.security.ApiKeyFilter;
+
+@Configuration
+public class ApiSecurityConfig {
+
+    @Bean
+    public FilterRegistrationBean<ApiKeyFilter> apiKeyFilter(@Value("${email.api.key:}") String apiKey) {
+        FilterRegistrationBean<ApiKeyFilter> registration = new FilterRegistrationBean<>(new ApiKeyFilter(apiKey));
+        registration.addUrlPatterns("/emails/*", "/suppressions", "/suppressions/*");
+        return registration;
+    }
+}
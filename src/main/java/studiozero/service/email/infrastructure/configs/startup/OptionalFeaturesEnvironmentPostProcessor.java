@@ -0,0 +1,49 @@
+package studiozero.service.email.infrastructure.configs.startup;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// ======= Sem agendamento e sem supressão, datasource e JPA não sobem ===== //
+public class OptionalFeaturesEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+    private static final String EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+    private static final List<String> DATABASE_AUTO_CONFIGURATIONS = List.of(
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration",
+            "org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration",
+            "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration",
+            "org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        boolean scheduling = environment.getProperty("email.scheduling.enabled", Boolean.class, true);
+        boolean suppression = environment.getProperty("email.suppression.enabled", Boolean.class, true);
+        if (scheduling || suppression) {
+            return;
+        }
+
+        List<String> excludes = new ArrayList<>(Binder.get(environment)
+                .bind(EXCLUDE_PROPERTY, Bindable.listOf(String.class))
+                .orElse(List.of()));
+        excludes.addAll(DATABASE_AUTO_CONFIGURATIONS);
+
+        environment.getPropertySources().addFirst(new MapPropertySource(
+                "optionalFeaturesExclusions",
+                Map.of(EXCLUDE_PROPERTY, String.join(",", excludes))
+        ));
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
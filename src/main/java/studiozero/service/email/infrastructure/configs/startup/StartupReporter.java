@@ -0,0 +1,23 @@
+package studiozero.service.email.infrastructure.configs.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+@Component
+public class StartupReporter implements SmartInitializingSingleton {
+    private final Logger log = LoggerFactory.getLogger(StartupReporter.class);
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        log.info("🚀 Startup report: context ready {} ms after JVM start, heap used {} MB, non-heap used {} MB",
+                ManagementFactory.getRuntimeMXBean().getUptime(),
+                memory.getHeapMemoryUsage().getUsed() / (1024 * 1024),
+                memory.getNonHeapMemoryUsage().getUsed() / (1024 * 1024));
+    }
+}
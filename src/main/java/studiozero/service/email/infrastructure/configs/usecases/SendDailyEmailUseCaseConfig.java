@@ -1,15 +1,24 @@
 package studiozero.service.email.infrastructure.configs.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import studiozero.service.email.application.services.DailyDigestHtmlRenderer;
+import studiozero.service.email.application.services.RecipientNormalizer;
 import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
 import studiozero.service.email.infrastructure.gateways.SendEmailGateway;
 
 @Configuration
 public class SendDailyEmailUseCaseConfig {
 
     @Bean
-    public SendDailyEmailUseCase sendUseCase(SendEmailGateway senderGateway) {
-        return new SendDailyEmailUseCase(senderGateway);
+    public SendDailyEmailUseCase sendUseCase(SendEmailGateway senderGateway,
+                                             RecipientNormalizer recipientNormalizer,
+                                             ScheduledEmailRepository scheduledEmailRepository,
+                                             DailyDigestHtmlRenderer htmlRenderer,
+                                             @Value("${email.html.enabled:false}") boolean htmlEnabled) {
+        return new SendDailyEmailUseCase(senderGateway, recipientNormalizer, scheduledEmailRepository,
+                htmlRenderer, htmlEnabled);
     }
 }
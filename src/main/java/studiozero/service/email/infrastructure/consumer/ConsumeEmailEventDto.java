@@ -3,11 +3,16 @@ package studiozero.service.email.infrastructure.consumer;
 import studiozero.service.email.domain.dtos.SubJob;
 import studiozero.service.email.domain.dtos.Task;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 public record ConsumeEmailEventDto(
         List<String> to,
         List<SubJob> subJobs,
-        List<Task> tasks
+        List<Task> tasks,
+        OffsetDateTime sendAt
 ) {
+    public ConsumeEmailEventDto(List<String> to, List<SubJob> subJobs, List<Task> tasks) {
+        this(to, subJobs, tasks, null);
+    }
 }
@@ -11,6 +11,7 @@ import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
 @Component
 @EnableRabbit
 public class EmailConsumer {
+    public static final String LISTENER_ID = "dailyEmailListener";
     private final Logger log = LoggerFactory.getLogger(EmailConsumer.class);
     private SendDailyEmailUseCase sendDailyEmailUseCase;
 
@@ -18,7 +19,11 @@ public class EmailConsumer {
         this.sendDailyEmailUseCase = sendDailyEmailUseCase;
     }
 
-    @RabbitListener(queues = "${broker.daily-email-queue}")
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${broker.daily-email-queue}",
+            concurrency = "${email.autoscaling.listener.min-consumers:1}"
+    )
     public void consumeEvent(ConsumeEmailEventDto eventDto) {
         log.info("Evento recebido da fila");
         sendDailyEmailUseCase.execute(eventDto);
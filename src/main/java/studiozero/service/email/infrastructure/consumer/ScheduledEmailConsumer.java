@@ -0,0 +1,25 @@
+package studiozero.service.email.infrastructure.consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+
+@Component
+@ConditionalOnProperty(name = "email.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledEmailConsumer {
+    private final Logger log = LoggerFactory.getLogger(ScheduledEmailConsumer.class);
+    private final SendDailyEmailUseCase sendDailyEmailUseCase;
+
+    public ScheduledEmailConsumer(SendDailyEmailUseCase sendDailyEmailUseCase) {
+        this.sendDailyEmailUseCase = sendDailyEmailUseCase;
+    }
+
+    @RabbitListener(queues = "${broker.scheduled-email-queue}")
+    public void consumeScheduledEvent(ConsumeEmailEventDto eventDto) {
+        log.info("Evento agendado recebido da fila");
+        sendDailyEmailUseCase.execute(eventDto);
+    }
+}
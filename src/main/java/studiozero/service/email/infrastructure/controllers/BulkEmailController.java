@@ -0,0 +1,71 @@
+package studiozero.service.email.infrastructure.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/emails")
+@Tag(name = "Emails", description = "Envio de emails em massa")
+public class BulkEmailController {
+    private final Logger log = LoggerFactory.getLogger(BulkEmailController.class);
+    private final SendDailyEmailUseCase sendDailyEmailUseCase;
+    private final ObjectReader eventReader;
+
+    public BulkEmailController(SendDailyEmailUseCase sendDailyEmailUseCase, ObjectMapper objectMapper) {
+        this.sendDailyEmailUseCase = sendDailyEmailUseCase;
+        this.eventReader = objectMapper.readerFor(ConsumeEmailEventDto.class);
+    }
+
+    // ======= Executor lotado: esta thread envia e para de ler ===== //
+    @Operation(summary = "Envia eventos em massa a partir de um corpo NDJSON")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkSubmitResponseDto> submitBulk(InputStream body) throws IOException {
+        long accepted = 0;
+        long rejected = 0;
+
+        try (MappingIterator<ConsumeEmailEventDto> events = eventReader.readValues(body)) {
+            while (events.hasNextValue()) {
+                ConsumeEmailEventDto eventDto = events.nextValue();
+                try {
+                    sendDailyEmailUseCase.execute(eventDto);
+                    accepted++;
+                } catch (IllegalArgumentException e) {
+                    rejected++;
+                    log.warn("❌ Bulk record at line {} rejected. Cause: {}",
+                            events.getCurrentLocation().getLineNr(), e.getMessage());
+                } catch (RuntimeException e) {
+                    int line = events.getCurrentLocation().getLineNr();
+                    log.error("❌ Bulk submit aborted at line {} after {} records. Cause: {}",
+                            line, accepted + rejected, e.getMessage(), e);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new BulkSubmitResponseDto(accepted, rejected, "Failed to submit record at line " + line));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("❌ Bulk submit aborted after {} records. Cause: {}", accepted + rejected, e.getOriginalMessage());
+            String line = e.getLocation() != null ? String.valueOf(e.getLocation().getLineNr()) : "?";
+            return ResponseEntity.badRequest()
+                    .body(new BulkSubmitResponseDto(accepted, rejected, "Malformed record at line " + line));
+        }
+
+        log.info("📦 Bulk submit finished: {} accepted, {} rejected", accepted, rejected);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new BulkSubmitResponseDto(accepted, rejected, null));
+    }
+}
@@ -0,0 +1,8 @@
+package studiozero.service.email.infrastructure.controllers;
+
+public record BulkSubmitResponseDto(
+        long accepted,
+        long rejected,
+        String error
+) {
+}
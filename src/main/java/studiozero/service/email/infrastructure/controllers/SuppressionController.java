@@ -0,0 +1,108 @@
+package studiozero.service.email.infrastructure.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import studiozero.service.email.application.services.RecipientNormalizer;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.persistence.SuppressedRecipientEntity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@ConditionalOnProperty(name = "email.suppression.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/suppressions")
+@Tag(name = "Suppressions", description = "Destinatários que não devem mais receber emails")
+public class SuppressionController {
+    private static final int IMPORT_BATCH_SIZE = 1_000;
+
+    private final Logger log = LoggerFactory.getLogger(SuppressionController.class);
+    private final SuppressionRepository suppressionRepository;
+
+    public SuppressionController(SuppressionRepository suppressionRepository) {
+        this.suppressionRepository = suppressionRepository;
+    }
+
+    @Operation(summary = "Suprime um destinatário")
+    @PostMapping
+    public ResponseEntity<Void> suppress(@RequestBody SuppressionRequestDto request) {
+        if (!RecipientNormalizer.isValid(RecipientNormalizer.normalizeAddress(request.email()))
+                || !isValidReason(request.reason())) {
+            return ResponseEntity.badRequest().build();
+        }
+        suppressionRepository.suppress(request.email(), request.reason());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Remove um destinatário da lista de supressão")
+    @DeleteMapping("/{email}")
+    public ResponseEntity<Void> unsuppress(@PathVariable String email) {
+        if (!suppressionRepository.unsuppress(email)) {
+            return ResponseEntity.notFound().build();
+        }
+        log.info("✅ Recipient {} removed from the suppression list", email);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Importa destinatários suprimidos a partir de um texto com um email por linha")
+    @PostMapping(value = "/import", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<SuppressionImportResponseDto> importSuppressions(
+            InputStream body,
+            @RequestParam(defaultValue = "import") String reason) throws IOException {
+        if (!isValidReason(reason)) {
+            return ResponseEntity.badRequest().build();
+        }
+        long imported = 0;
+        long valid = 0;
+        long invalid = 0;
+        List<String> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String email = RecipientNormalizer.normalizeAddress(line);
+                if (!RecipientNormalizer.isValid(email)) {
+                    invalid++;
+                    continue;
+                }
+                valid++;
+                batch.add(email);
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    imported += suppressionRepository.suppressAll(batch, reason);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            imported += suppressionRepository.suppressAll(batch, reason);
+        }
+
+        log.info("🚫 Imported {} suppressed recipients ({} already suppressed, {} invalid lines)",
+                imported, valid - imported, invalid);
+        return ResponseEntity.ok(new SuppressionImportResponseDto(imported, valid - imported, invalid));
+    }
+
+    private static boolean isValidReason(String reason) {
+        return reason == null || reason.length() <= SuppressedRecipientEntity.REASON_MAX_LENGTH;
+    }
+}
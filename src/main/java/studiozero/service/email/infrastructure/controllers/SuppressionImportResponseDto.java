@@ -0,0 +1,8 @@
+package studiozero.service.email.infrastructure.controllers;
+
+public record SuppressionImportResponseDto(
+        long imported,
+        long alreadySuppressed,
+        long invalid
+) {
+}
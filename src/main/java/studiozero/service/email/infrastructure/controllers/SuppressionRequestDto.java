@@ -0,0 +1,7 @@
+package studiozero.service.email.infrastructure.controllers;
+
+public record SuppressionRequestDto(
+        String email,
+        String reason
+) {
+}
@@ -0,0 +1,59 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CachedMxRecordGateway implements MxRecordRepository {
+    private final Logger log = LoggerFactory.getLogger(CachedMxRecordGateway.class);
+    private final MxRecordRepository delegate;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final Map<String, CachedLookup> cache;
+
+    public CachedMxRecordGateway(MxRecordRepository delegate, Duration ttl, int maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLookup> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public boolean hasMxRecord(String domain) {
+        long now = clock.millis();
+
+        synchronized (cache) {
+            CachedLookup cached = cache.get(domain);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.hasMx();
+            }
+        }
+
+        boolean hasMx;
+        try {
+            hasMx = delegate.hasMxRecord(domain);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ MX lookup unavailable for domain {}, accepting recipient. Cause: {}", domain, e.getMessage());
+            return true;
+        }
+
+        synchronized (cache) {
+            cache.put(domain, new CachedLookup(hasMx, now + ttlMillis));
+        }
+        return hasMx;
+    }
+
+    private record CachedLookup(boolean hasMx, long expiresAt) {
+    }
+}
@@ -0,0 +1,19 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import studiozero.service.email.domain.repositories.SendQuotaRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class DisabledSendQuotaGateway implements SendQuotaRepository {
+
+    @Override
+    public boolean tryAcquire(Duration maxWait) {
+        return true;
+    }
+
+    @Override
+    public Instant reserveRetrySlot() {
+        return Instant.now();
+    }
+}
@@ -0,0 +1,35 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+
+import java.util.Collection;
+
+@Repository
+@ConditionalOnProperty(name = "email.suppression.enabled", havingValue = "false")
+public class DisabledSuppressionGateway implements SuppressionRepository {
+    private final Logger log = LoggerFactory.getLogger(DisabledSuppressionGateway.class);
+
+    @Override
+    public boolean isSuppressed(String email) {
+        return false;
+    }
+
+    @Override
+    public void suppress(String email, String reason) {
+        log.warn("⚠️ Suppression disabled, {} was not suppressed ({})", email, reason);
+    }
+
+    @Override
+    public int suppressAll(Collection<String> emails, String reason) {
+        return 0;
+    }
+
+    @Override
+    public boolean unsuppress(String email) {
+        return false;
+    }
+}
@@ -0,0 +1,69 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.DirContext;
+import javax.naming.directory.InitialDirContext;
+import java.util.Hashtable;
+
+public class DnsMxRecordGateway implements MxRecordRepository {
+    private static final String[] MX_ATTRIBUTE = {"MX"};
+    private static final String[] ADDRESS_ATTRIBUTES = {"A", "AAAA"};
+    private final Hashtable<String, String> environment = new Hashtable<>();
+
+    public DnsMxRecordGateway(long timeoutMillis) {
+        environment.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.dns.DnsContextFactory");
+        environment.put("com.sun.jndi.dns.timeout.initial", String.valueOf(timeoutMillis));
+        environment.put("com.sun.jndi.dns.timeout.retries", "1");
+    }
+
+    @Override
+    public boolean hasMxRecord(String domain) {
+        try {
+            if (hasValues(lookup(domain, MX_ATTRIBUTE), MX_ATTRIBUTE)) {
+                return true;
+            }
+            // ======= RFC 5321: sem MX, o A/AAAA é o MX implícito ===== //
+            return hasValues(lookup(domain, ADDRESS_ATTRIBUTES), ADDRESS_ATTRIBUTES);
+        } catch (NameNotFoundException e) {
+            return false;
+        } catch (NamingException e) {
+            throw new IllegalStateException("DNS lookup failed for domain " + domain, e);
+        }
+    }
+
+    protected Attributes lookup(String domain, String[] types) throws NamingException {
+        DirContext context = null;
+        try {
+            context = new InitialDirContext(environment);
+            return context.getAttributes(domain, types);
+        } finally {
+            closeQuietly(context);
+        }
+    }
+
+    private boolean hasValues(Attributes attributes, String[] types) {
+        for (String type : types) {
+            Attribute attribute = attributes.get(type);
+            if (attribute != null && attribute.size() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void closeQuietly(DirContext context) {
+        if (context == null) {
+            return;
+        }
+        try {
+            context.close();
+        } catch (NamingException ignored) {
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+
+import java.time.Instant;
+
+@Repository
+@ConditionalOnProperty(name = "email.scheduling.enabled", havingValue = "false")
+public class ForwardingScheduledEmailGateway implements ScheduledEmailRepository {
+    private final RabbitTemplate rabbitTemplate;
+    private final String scheduledEmailQueue;
+    private final long confirmTimeoutMillis;
+
+    public ForwardingScheduledEmailGateway(RabbitTemplate rabbitTemplate,
+                                           @Value("${broker.scheduled-email-queue}") String scheduledEmailQueue,
+                                           @Value("${email.scheduling.forward-confirm-timeout-millis:5000}") long confirmTimeoutMillis) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.scheduledEmailQueue = scheduledEmailQueue;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+    }
+
+    // ======= Só retorna depois do confirm do broker ===== //
+    @Override
+    public void schedule(ConsumeEmailEventDto eventDto, Instant sendAt) {
+        rabbitTemplate.invoke(operations -> {
+            operations.convertAndSend("", scheduledEmailQueue, eventDto);
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            return null;
+        });
+    }
+}
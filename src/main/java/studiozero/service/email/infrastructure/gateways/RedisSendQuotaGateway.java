@@ -0,0 +1,185 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import studiozero.service.email.domain.repositories.SendQuotaRepository;
+import studiozero.service.email.infrastructure.ratelimit.LocalWindowCounter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RedisSendQuotaGateway implements SendQuotaRepository {
+    private static final String MINUTE_WINDOW_MILLIS = String.valueOf(Duration.ofMinutes(1).toMillis());
+    private static final String DAY_WINDOW_MILLIS = String.valueOf(Duration.ofDays(1).toMillis());
+    private static final long FALLBACK_MINUTE_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final long FALLBACK_DAY_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final Logger log = LoggerFactory.getLogger(RedisSendQuotaGateway.class);
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List<Long>> quotaScript;
+    private final RedisScript<Long> refundScript;
+    private final List<String> counterKeys;
+    private final String perMinute;
+    private final String perDay;
+    private final long retrySpacingMillis;
+    private final int leaseSize;
+    private final long leaseTtlMillis;
+    private final LocalWindowCounter fallbackMinuteCounter;
+    private final LocalWindowCounter fallbackDayCounter;
+    private final long redisRetryMillis;
+    private final long waitMillis;
+    private final Clock clock;
+    private final AtomicInteger leasedTokens = new AtomicInteger();
+    private final AtomicLong nextRetrySlotAt = new AtomicLong();
+    private volatile long leaseExpiresAt;
+    private String[] leaseWindows;
+    private volatile long redisRetryAt;
+    private volatile long nextWindowAt;
+
+    public RedisSendQuotaGateway(StringRedisTemplate redisTemplate,
+                                 RedisScript<List<Long>> quotaScript,
+                                 RedisScript<Long> refundScript,
+                                 String keyPrefix,
+                                 long perMinute,
+                                 long perDay,
+                                 int leaseSize,
+                                 Duration leaseTtl,
+                                 LocalWindowCounter fallbackMinuteCounter,
+                                 LocalWindowCounter fallbackDayCounter,
+                                 Duration redisRetryInterval,
+                                 Duration wait,
+                                 Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.quotaScript = quotaScript;
+        this.refundScript = refundScript;
+        this.counterKeys = List.of("{" + keyPrefix + "}:minute", "{" + keyPrefix + "}:day");
+        this.perMinute = String.valueOf(perMinute);
+        this.perDay = String.valueOf(perDay);
+        this.retrySpacingMillis = Math.max(1, Duration.ofMinutes(1).toMillis() / Math.max(1, perMinute));
+        this.leaseSize = leaseSize;
+        this.leaseTtlMillis = leaseTtl.toMillis();
+        this.fallbackMinuteCounter = fallbackMinuteCounter;
+        this.fallbackDayCounter = fallbackDayCounter;
+        this.redisRetryMillis = redisRetryInterval.toMillis();
+        this.waitMillis = wait.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(Duration maxWait) {
+        long deadline = clock.millis() + maxWait.toMillis();
+        while (!tryAcquire()) {
+            long now = clock.millis();
+            if (now >= deadline || nextWindowAt > deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(Math.max(1, Math.min(waitMillis, deadline - now)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ======= Espalha os adiados no ritmo da cota por minuto ===== //
+    @Override
+    public Instant reserveRetrySlot() {
+        long windowStart = Math.max(nextWindowAt, clock.millis());
+        long previous = nextRetrySlotAt.getAndAccumulate(windowStart,
+                (reserved, start) -> Math.max(reserved, start) + retrySpacingMillis);
+        return Instant.ofEpochMilli(Math.max(previous, windowStart));
+    }
+
+    public boolean tryAcquire() {
+        if (takeLeasedToken()) {
+            return true;
+        }
+        return refillLease() && takeLeasedToken();
+    }
+
+    private boolean takeLeasedToken() {
+        if (clock.millis() >= leaseExpiresAt) {
+            return false;
+        }
+
+        int available;
+        do {
+            available = leasedTokens.get();
+            if (available <= 0) {
+                return false;
+            }
+        } while (!leasedTokens.compareAndSet(available, available - 1));
+        return true;
+    }
+
+    // ======= Um round-trip ao Redis por lote de tokens ===== //
+    private synchronized boolean refillLease() {
+        long now = clock.millis();
+        if (leasedTokens.get() > 0 && now < leaseExpiresAt) {
+            return true;
+        }
+
+        // ======= Lote vencido não é gasto; o que sobrou volta para o Redis ===== //
+        refund(leasedTokens.getAndSet(0));
+
+        if (now >= redisRetryAt) {
+            try {
+                List<Long> result = redisTemplate.execute(quotaScript, counterKeys,
+                        String.valueOf(leaseSize), perMinute, perDay, MINUTE_WINDOW_MILLIS, DAY_WINDOW_MILLIS);
+                if (result == null || result.size() < 5) {
+                    nextWindowAt = now + waitMillis;
+                    return lease(0, now, leaseTtlMillis);
+                }
+                nextWindowAt = now + result.get(4);
+                leaseWindows = new String[]{String.valueOf(result.get(1)), String.valueOf(result.get(2))};
+                return lease(result.get(0).intValue(), now, Math.min(leaseTtlMillis, result.get(3)));
+            } catch (RuntimeException e) {
+                redisRetryAt = clock.millis() + redisRetryMillis;
+                log.warn("⚠️ Redis quota unavailable, using local fallback budget for {} ms. Cause: {}",
+                        redisRetryMillis, e.getMessage());
+            }
+        }
+
+        if (fallbackMinuteCounter.tryTake(1) == 0) {
+            nextWindowAt = (now / FALLBACK_MINUTE_MILLIS + 1) * FALLBACK_MINUTE_MILLIS;
+            return false;
+        }
+        if (fallbackDayCounter.tryTake(1) == 0) {
+            nextWindowAt = (now / FALLBACK_DAY_MILLIS + 1) * FALLBACK_DAY_MILLIS;
+            return lease(0, now, leaseTtlMillis);
+        }
+        return lease(1, now, leaseTtlMillis);
+    }
+
+    public synchronized void close() {
+        refund(leasedTokens.getAndSet(0));
+    }
+
+    private boolean lease(int tokens, long now, long ttlMillis) {
+        leaseExpiresAt = now + ttlMillis;
+        leasedTokens.set(tokens);
+        return tokens > 0;
+    }
+
+    private void refund(int tokens) {
+        String[] windows = leaseWindows;
+        leaseWindows = null;
+        if (tokens <= 0 || windows == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(refundScript, counterKeys, String.valueOf(tokens), windows[0], windows[1]);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Could not return {} unused quota tokens to Redis. Cause: {}", tokens, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailEntity;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailJpaRepository;
+import studiozero.service.email.infrastructure.scheduling.HierarchicalTimingWheel;
+
+import java.time.Instant;
+
+@Repository
+@ConditionalOnProperty(name = "email.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledEmailGateway implements ScheduledEmailRepository {
+    private final ScheduledEmailJpaRepository scheduledEmailJpaRepository;
+    private final HierarchicalTimingWheel<Long> scheduledEmailWheel;
+
+    public ScheduledEmailGateway(ScheduledEmailJpaRepository scheduledEmailJpaRepository,
+                                 HierarchicalTimingWheel<Long> scheduledEmailWheel) {
+        this.scheduledEmailJpaRepository = scheduledEmailJpaRepository;
+        this.scheduledEmailWheel = scheduledEmailWheel;
+    }
+
+    @Override
+    public void schedule(ConsumeEmailEventDto eventDto, Instant sendAt) {
+        // ======= Persiste antes de registrar na roda ===== //
+        ScheduledEmailEntity saved = scheduledEmailJpaRepository.save(new ScheduledEmailEntity(sendAt, eventDto));
+        scheduledEmailWheel.schedule(saved.getId(), sendAt.toEpochMilli());
+    }
+}
@@ -1,45 +1,189 @@
 package studiozero.service.email.infrastructure.gateways;
 
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Repository;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
 import studiozero.service.email.domain.repositories.SendEmailRepository;
+import studiozero.service.email.domain.repositories.SendQuotaRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.mail.InlineAssetCache;
+import studiozero.service.email.infrastructure.metrics.SendMetrics;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
 
 @Repository
 public class SendEmailGateway implements SendEmailRepository {
+    // ======= RFC 3463 5.1.x: mailbox inexistente ===== //
+    private static final Pattern UNKNOWN_MAILBOX_STATUS = Pattern.compile("\\b5\\.1\\.\\d{1,3}\\b");
+
     private final Logger log = LoggerFactory.getLogger(SendEmailGateway.class);
     private final JavaMailSender mailSender;
+    private final Executor emailSenderTaskExecutor;
+    private final SendMetrics sendMetrics;
+    private final SendQuotaRepository sendQuotaRepository;
+    private final SuppressionRepository suppressionRepository;
+    private final InlineAssetCache inlineAssetCache;
+    private final ScheduledEmailRepository scheduledEmailRepository;
+    private final Duration quotaMaxWait;
 
-    public SendEmailGateway(JavaMailSender mailSender) {
+    public SendEmailGateway(JavaMailSender mailSender,
+                            @Qualifier("emailSenderTaskExecutor") Executor emailSenderTaskExecutor,
+                            SendMetrics sendMetrics,
+                            SendQuotaRepository sendQuotaRepository,
+                            SuppressionRepository suppressionRepository,
+                            InlineAssetCache inlineAssetCache,
+                            ScheduledEmailRepository scheduledEmailRepository,
+                            @Value("${email.quota.max-wait:60s}") Duration quotaMaxWait) {
         this.mailSender = mailSender;
+        this.emailSenderTaskExecutor = emailSenderTaskExecutor;
+        this.sendMetrics = sendMetrics;
+        this.sendQuotaRepository = sendQuotaRepository;
+        this.suppressionRepository = suppressionRepository;
+        this.inlineAssetCache = inlineAssetCache;
+        this.scheduledEmailRepository = scheduledEmailRepository;
+        this.quotaMaxWait = quotaMaxWait;
     }
 
-    @Async("emailSenderTaskExecutor")
     @Override
-    public void sendEmail(List<String> to, String subject, String body) {
+    public void sendEmail(List<String> to, String subject, String body, ConsumeEmailEventDto source) {
+        Thread submitter = Thread.currentThread();
 
         // ======= Realiza o envio de emails paralelamente ===== //
-        to.parallelStream()
-            .forEach(employee -> CompletableFuture.runAsync(() -> {
-                try {
-                    SimpleMailMessage message = new SimpleMailMessage();
-                    message.setTo(employee);
-                    message.setSubject(subject);
-                    message.setText(body);
-                    mailSender.send(message);
-                    log.info("📧 Notification emails sent successfully to: {}", employee);
-                } catch (MailException e) {
-                    log.error("❌ Error trying to send emails to employees. Cause: {}", e.getMessage(), e);
-                } catch (Exception e) {
-                    log.error("❌ Unexpected error while executing scheduled email task: {}", e.getMessage(), e);
-                }
+        for (String employee : to) {
+            emailSenderTaskExecutor.execute(() -> sendTo(employee, source, submitter, () -> {
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setTo(employee);
+                message.setSubject(subject);
+                message.setText(body);
+                mailSender.send(message);
             }));
+        }
+    }
+
+    @Override
+    public void sendHtmlEmail(List<String> to, String subject, String textBody, String htmlBody, List<String> inlineAssets,
+                              ConsumeEmailEventDto source) {
+        Thread submitter = Thread.currentThread();
+        for (String employee : to) {
+            emailSenderTaskExecutor.execute(() -> sendTo(employee, source, submitter,
+                    () -> mailSender.send(buildHtmlMessage(employee, subject, textBody, htmlBody, inlineAssets))));
+        }
+    }
+
+    private MimeMessage buildHtmlMessage(String employee, String subject, String textBody, String htmlBody,
+                                         List<String> inlineAssets) throws MessagingException {
+        MimeBodyPart text = new MimeBodyPart();
+        text.setText(textBody, "UTF-8");
+        MimeBodyPart html = new MimeBodyPart();
+        html.setText(htmlBody, "UTF-8", "html");
+
+        MimeBodyPart alternative = new MimeBodyPart();
+        alternative.setContent(new MimeMultipart("alternative", text, html));
+
+        MimeMultipart related = new MimeMultipart("related", alternative);
+        for (String asset : inlineAssets) {
+            related.addBodyPart(inlineAssetCache.get(asset).toBodyPart(asset));
+        }
+
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(employee));
+        message.setSubject(subject, "UTF-8");
+        message.setContent(related);
+        return message;
+    }
+
+    private void sendTo(String employee, ConsumeEmailEventDto source, Thread submitter, Delivery delivery) {
+        // ======= Executor lotado: listener e HTTP não esperam cota ===== //
+        Duration maxWait = Thread.currentThread() == submitter ? Duration.ZERO : quotaMaxWait;
+        if (!acquireQuota(maxWait)) {
+            defer(employee, source);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            delivery.send();
+            success = true;
+            log.debug("📧 Notification email sent successfully to: {}", employee);
+        } catch (MailSendException e) {
+            log.error("❌ Error trying to send email to {}. Cause: {}", employee, e.getMessage(), e);
+            suppressRejectedAddresses(e);
+        } catch (MailException e) {
+            log.error("❌ Error trying to send email to {}. Cause: {}", employee, e.getMessage(), e);
+        } catch (Exception e) {
+            log.error("❌ Unexpected error while sending email to {}. Cause: {}", employee, e.getMessage(), e);
+        } finally {
+            sendMetrics.recordSend(System.nanoTime() - start, success);
+        }
+    }
+
+    private boolean acquireQuota(Duration maxWait) {
+        long waitStart = System.nanoTime();
+        sendMetrics.quotaWaitStarted();
+        try {
+            return sendQuotaRepository.tryAcquire(maxWait);
+        } finally {
+            sendMetrics.quotaWaitFinished(System.nanoTime() - waitStart);
+        }
+    }
+
+    private void defer(String employee, ConsumeEmailEventDto source) {
+        try {
+            Instant retryAt = sendQuotaRepository.reserveRetrySlot();
+            ConsumeEmailEventDto deferred = new ConsumeEmailEventDto(List.of(employee), source.subJobs(), source.tasks(),
+                    retryAt.atOffset(ZoneOffset.UTC));
+            scheduledEmailRepository.schedule(deferred, retryAt);
+            sendMetrics.recordDeferred();
+            log.debug("⏳ Send quota exhausted, email to {} deferred to {}", employee, retryAt);
+        } catch (RuntimeException e) {
+            log.error("❌ Send quota exhausted and email to {} could not be deferred. Cause: {}", employee, e.getMessage(), e);
+            sendMetrics.recordSend(0, false);
+        }
+    }
+
+    private void suppressRejectedAddresses(MailSendException e) {
+        for (Exception failure : e.getFailedMessages().values()) {
+            Exception next = failure;
+            while (next instanceof MessagingException messaging) {
+                if (next instanceof SMTPAddressFailedException addressFailed
+                        && isUnknownMailbox(addressFailed.getReturnCode(), addressFailed.getMessage())) {
+                    String email = addressFailed.getAddress().getAddress();
+                    suppressionRepository.suppress(email, "hard-bounce");
+                    log.warn("🚫 Recipient {} suppressed after hard bounce: {}", email, addressFailed.getMessage());
+                }
+                next = messaging.getNextException();
+            }
+        }
+    }
+
+    private static boolean isUnknownMailbox(int returnCode, String response) {
+        return (returnCode == 550 || returnCode == 551 || returnCode == 553)
+                && response != null
+                && UNKNOWN_MAILBOX_STATUS.matcher(response).find();
+    }
+
+    private interface Delivery {
+        void send() throws MessagingException;
     }
 }
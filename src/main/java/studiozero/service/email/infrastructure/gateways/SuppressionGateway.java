@@ -0,0 +1,196 @@
+package studiozero.service.email.infrastructure.gateways;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import studiozero.service.email.application.services.RecipientNormalizer;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.persistence.SuppressedRecipientEntity;
+import studiozero.service.email.infrastructure.persistence.SuppressedRecipientJpaRepository;
+import studiozero.service.email.infrastructure.suppression.BloomFilter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@ConditionalOnProperty(name = "email.suppression.enabled", havingValue = "true", matchIfMissing = true)
+public class SuppressionGateway implements SuppressionRepository {
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+    private static final int SYNC_PAGE_SIZE = 1_000;
+
+    private final Logger log = LoggerFactory.getLogger(SuppressionGateway.class);
+    private final SuppressedRecipientJpaRepository suppressedRecipientJpaRepository;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+    private final long syncOverlapMillis;
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile boolean ready;
+    private Instant syncedUntil;
+
+    public SuppressionGateway(SuppressedRecipientJpaRepository suppressedRecipientJpaRepository,
+                              @Value("${email.suppression.expected-entries:1000000}") long expectedEntries,
+                              @Value("${email.suppression.false-positive-rate:0.01}") double falsePositiveRate,
+                              @Value("${email.suppression.sync-overlap-millis:60000}") long syncOverlapMillis) {
+        this.suppressedRecipientJpaRepository = suppressedRecipientJpaRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlapMillis = syncOverlapMillis;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    // ======= Só consulta o banco se o filtro acusar ===== //
+    @Override
+    public boolean isSuppressed(String email) {
+        if (ready && !filter.mightContain(email)) {
+            return false;
+        }
+        return suppressedRecipientJpaRepository.existsById(email);
+    }
+
+    @Override
+    public void suppress(String email, String reason) {
+        suppressAll(List.of(email), reason);
+    }
+
+    @Override
+    public int suppressAll(Collection<String> emails, String reason) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String raw : emails) {
+            String email = RecipientNormalizer.normalizeAddress(raw);
+            if (RecipientNormalizer.isValid(email)) {
+                normalized.add(email);
+            }
+        }
+        if (normalized.isEmpty()) {
+            return 0;
+        }
+
+        int inserted;
+        try {
+            inserted = insertMissing(normalized, reason);
+        } catch (DataIntegrityViolationException e) {
+            // ======= Inserção concorrente de outra réplica: refaz uma vez ===== //
+            inserted = insertMissing(normalized, reason);
+        }
+
+        for (String email : normalized) {
+            add(email);
+        }
+        return inserted;
+    }
+
+    private int insertMissing(Set<String> emails, String reason) {
+        Set<String> missing = new LinkedHashSet<>(emails);
+        missing.removeAll(suppressedRecipientJpaRepository.findExistingEmails(emails));
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Instant now = Instant.now();
+        List<SuppressedRecipientEntity> entities = new ArrayList<>(missing.size());
+        for (String email : missing) {
+            entities.add(new SuppressedRecipientEntity(email, reason, now));
+        }
+        suppressedRecipientJpaRepository.saveAll(entities);
+        return entities.size();
+    }
+
+    @Override
+    public boolean unsuppress(String email) {
+        String normalized = RecipientNormalizer.normalizeAddress(email);
+        if (normalized == null || !suppressedRecipientJpaRepository.existsById(normalized)) {
+            return false;
+        }
+        suppressedRecipientJpaRepository.deleteById(normalized);
+        return true;
+    }
+
+    // ======= Filtro em construção primeiro: a troca não perde o email ===== //
+    private void add(String email) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(email);
+        }
+        filter.put(email);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${email.suppression.sync-interval-millis:10000}",
+            initialDelayString = "${email.suppression.sync-interval-millis:10000}"
+    )
+    public void syncRecent() {
+        Instant since;
+        synchronized (this) {
+            if (!ready) {
+                return;
+            }
+            since = syncedUntil;
+        }
+
+        Instant started = Instant.now();
+        Instant afterCreatedAt = since.minusMillis(syncOverlapMillis);
+        String afterEmail = "";
+        long synced = 0;
+        List<SuppressedRecipientEntity> page;
+        do {
+            page = suppressedRecipientJpaRepository.findCreatedAfter(afterCreatedAt, afterEmail,
+                    PageRequest.of(0, SYNC_PAGE_SIZE));
+            for (SuppressedRecipientEntity entity : page) {
+                add(entity.getEmail());
+                afterCreatedAt = entity.getCreatedAt();
+                afterEmail = entity.getEmail();
+            }
+            synced += page.size();
+        } while (page.size() == SYNC_PAGE_SIZE);
+
+        synchronized (this) {
+            if (syncedUntil.isBefore(started)) {
+                syncedUntil = started;
+            }
+        }
+        log.debug("🚫 Suppression filter synced {} recent entries", synced);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${email.suppression.rebuild-interval-millis:21600000}",
+            initialDelayString = "${email.suppression.rebuild-interval-millis:21600000}"
+    )
+    public synchronized void rebuild() {
+        Instant started = Instant.now();
+        long count = suppressedRecipientJpaRepository.count();
+        BloomFilter next = new BloomFilter(Math.max(expectedEntries, count * 2), falsePositiveRate);
+        rebuilding = next;
+
+        String afterEmail = "";
+        long loaded = 0;
+        List<String> page;
+        do {
+            page = suppressedRecipientJpaRepository.findEmailsAfter(afterEmail, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (String email : page) {
+                next.put(email);
+                afterEmail = email;
+            }
+            loaded += page.size();
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        filter = next;
+        rebuilding = null;
+        syncedUntil = started;
+        ready = true;
+        log.info("🚫 Suppression filter rebuilt with {} entries", loaded);
+    }
+
+}
@@ -0,0 +1,70 @@
+package studiozero.service.email.infrastructure.mail;
+
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+// ======= Codificada uma vez, compartilhada por todas as mensagens ===== //
+public final class InlineAsset {
+    private final String contentHash;
+    private final String contentType;
+    private final byte[] base64;
+
+    InlineAsset(String contentHash, String contentType, byte[] base64) {
+        this.contentHash = contentHash;
+        this.contentType = contentType;
+        this.base64 = base64;
+    }
+
+    public String contentHash() {
+        return contentHash;
+    }
+
+    public int encodedSize() {
+        return base64.length;
+    }
+
+    public MimeBodyPart toBodyPart(String contentId) throws MessagingException {
+        MimeBodyPart part = new PreencodedMimeBodyPart("base64");
+        part.setDataHandler(new DataHandler(new EncodedDataSource(contentId)));
+        part.setContentID("<" + contentId + ">");
+        part.setDisposition(Part.INLINE);
+        return part;
+    }
+
+    private final class EncodedDataSource implements DataSource {
+        private final String name;
+
+        private EncodedDataSource(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(base64);
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new IOException("Inline assets are read-only");
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package studiozero.service.email.infrastructure.mail;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InlineAssetCache {
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final long maxEncodedBytes;
+    private final Map<String, String> hashByName = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, InlineAsset> assetsByHash = new LinkedHashMap<>(16, 0.75f, true);
+    private long encodedBytes;
+
+    public InlineAssetCache(ResourceLoader resourceLoader, String location, long maxEncodedBytes) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.maxEncodedBytes = maxEncodedBytes;
+    }
+
+    public InlineAsset get(String name) {
+        String hash = hashByName.get(name);
+        if (hash != null) {
+            synchronized (assetsByHash) {
+                InlineAsset cached = assetsByHash.get(hash);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+        return load(name);
+    }
+
+    public int size() {
+        synchronized (assetsByHash) {
+            return assetsByHash.size();
+        }
+    }
+
+    private InlineAsset load(String name) {
+        byte[] content = read(name);
+        String hash = sha256(content);
+        hashByName.put(name, hash);
+
+        synchronized (assetsByHash) {
+            InlineAsset cached = assetsByHash.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+
+            InlineAsset asset = new InlineAsset(hash, contentTypeOf(name),
+                    Base64.getMimeEncoder().encodeToString(content).getBytes(StandardCharsets.US_ASCII));
+            assetsByHash.put(hash, asset);
+            encodedBytes += asset.encodedSize();
+            evictOverBudget(hash);
+            return asset;
+        }
+    }
+
+    private void evictOverBudget(String keep) {
+        var iterator = assetsByHash.entrySet().iterator();
+        while (encodedBytes > maxEncodedBytes && iterator.hasNext()) {
+            Map.Entry<String, InlineAsset> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            encodedBytes -= eldest.getValue().encodedSize();
+            iterator.remove();
+        }
+    }
+
+    private byte[] read(String name) {
+        Resource resource = resourceLoader.getResource(location + name);
+        try (InputStream input = resource.getInputStream()) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Asset de email não encontrado: " + name, e);
+        }
+    }
+
+    private String contentTypeOf(String name) {
+        String contentType = URLConnection.guessContentTypeFromName(name);
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package studiozero.service.email.infrastructure.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SendMetrics {
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder quotaWaitNanos = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final AtomicInteger quotaWaiters = new AtomicInteger();
+
+    public void recordSend(long elapsedNanos, boolean success) {
+        latencyNanos.add(elapsedNanos);
+        if (success) {
+            sent.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public void quotaWaitStarted() {
+        quotaWaiters.incrementAndGet();
+    }
+
+    public void quotaWaitFinished(long waitedNanos) {
+        quotaWaiters.decrementAndGet();
+        quotaWaitNanos.add(waitedNanos);
+    }
+
+    public void recordDeferred() {
+        deferred.increment();
+    }
+
+    public int quotaWaiters() {
+        return quotaWaiters.get();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(sent.sum(), failed.sum(), latencyNanos.sum(), quotaWaitNanos.sum(), deferred.sum());
+    }
+
+    public record Snapshot(long sent, long failed, long latencyNanos, long quotaWaitNanos, long deferred) {
+
+        public long attempts() {
+            return sent + failed;
+        }
+
+        public Snapshot since(Snapshot previous) {
+            return new Snapshot(sent - previous.sent, failed - previous.failed,
+                    latencyNanos - previous.latencyNanos, quotaWaitNanos - previous.quotaWaitNanos,
+                    deferred - previous.deferred);
+        }
+
+        public long averageLatencyMillis() {
+            return attempts() == 0 ? 0 : latencyNanos / attempts() / 1_000_000;
+        }
+
+        public long averageQuotaWaitMillis() {
+            return attempts() == 0 ? 0 : quotaWaitNanos / attempts() / 1_000_000;
+        }
+    }
+}
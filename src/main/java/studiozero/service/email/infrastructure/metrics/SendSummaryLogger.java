@@ -0,0 +1,38 @@
+package studiozero.service.email.infrastructure.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SendSummaryLogger {
+    private final Logger log = LoggerFactory.getLogger(SendSummaryLogger.class);
+    private final SendMetrics sendMetrics;
+    private SendMetrics.Snapshot lastSnapshot;
+    private long lastSummaryNanos;
+
+    public SendSummaryLogger(SendMetrics sendMetrics) {
+        this.sendMetrics = sendMetrics;
+        this.lastSnapshot = sendMetrics.snapshot();
+        this.lastSummaryNanos = System.nanoTime();
+    }
+
+    @Scheduled(fixedDelayString = "${email.logging.summary-interval-millis:60000}")
+    public void logSummary() {
+        SendMetrics.Snapshot snapshot = sendMetrics.snapshot();
+        SendMetrics.Snapshot window = snapshot.since(lastSnapshot);
+        long now = System.nanoTime();
+        long windowSeconds = (now - lastSummaryNanos) / 1_000_000_000L;
+        lastSnapshot = snapshot;
+        lastSummaryNanos = now;
+
+        if (window.attempts() == 0 && window.deferred() == 0) {
+            return;
+        }
+
+        log.info("📧 {} emails sent, {} failed, {} deferred by quota in the last {}s (avg SMTP latency {} ms, avg quota wait {} ms)",
+                window.sent(), window.failed(), window.deferred(), windowSeconds, window.averageLatencyMillis(),
+                window.averageQuotaWaitMillis());
+    }
+}
@@ -0,0 +1,36 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+
+@Converter
+public class ConsumeEmailEventDtoConverter implements AttributeConverter<ConsumeEmailEventDto, String> {
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Override
+    public String convertToDatabaseColumn(ConsumeEmailEventDto eventDto) {
+        try {
+            return eventDto == null ? null : MAPPER.writeValueAsString(eventDto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Não foi possível serializar o evento agendado", e);
+        }
+    }
+
+    @Override
+    public ConsumeEmailEventDto convertToEntityAttribute(String json) {
+        try {
+            return json == null ? null : MAPPER.readValue(json, ConsumeEmailEventDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Não foi possível desserializar o evento agendado", e);
+        }
+    }
+}
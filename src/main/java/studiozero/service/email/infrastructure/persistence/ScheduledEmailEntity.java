@@ -0,0 +1,63 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "scheduled_email", indexes = @Index(name = "idx_scheduled_email_send_at", columnList = "send_at"))
+public class ScheduledEmailEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "send_at", nullable = false)
+    private Instant sendAt;
+
+    @Column(name = "event", nullable = false, columnDefinition = "LONGTEXT")
+    @Convert(converter = ConsumeEmailEventDtoConverter.class)
+    private ConsumeEmailEventDto event;
+
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    public ScheduledEmailEntity(Instant sendAt, ConsumeEmailEventDto event) {
+        this.sendAt = sendAt;
+        this.event = event;
+    }
+
+    protected ScheduledEmailEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getSendAt() {
+        return sendAt;
+    }
+
+    public ConsumeEmailEventDto getEvent() {
+        return event;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+}
@@ -0,0 +1,47 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduledEmailJpaRepository extends JpaRepository<ScheduledEmailEntity, Long> {
+
+    @Query("select new studiozero.service.email.infrastructure.persistence.ScheduledSend(e.id, e.sendAt) "
+            + "from ScheduledEmailEntity e where e.id > :afterId order by e.id")
+    List<ScheduledSend> findPendingAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new studiozero.service.email.infrastructure.persistence.ScheduledSend(e.id, e.sendAt) "
+            + "from ScheduledEmailEntity e where e.sendAt <= :dueBefore "
+            + "and (e.claimedBy is null or e.claimedAt < :staleBefore) order by e.sendAt")
+    List<ScheduledSend> findOrphaned(@Param("dueBefore") Instant dueBefore,
+                                     @Param("staleBefore") Instant staleBefore,
+                                     Pageable pageable);
+
+    // ======= UPDATE condicional: só uma réplica reserva cada linha ===== //
+    @Transactional
+    @Modifying
+    @Query("update ScheduledEmailEntity e set e.claimedBy = :owner, e.claimedAt = :now "
+            + "where e.id in :ids and (e.claimedBy is null or e.claimedAt < :staleBefore)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("now") Instant now,
+              @Param("staleBefore") Instant staleBefore);
+
+    @Query("select e from ScheduledEmailEntity e where e.id in :ids and e.claimedBy = :owner")
+    List<ScheduledEmailEntity> findClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    @Query("select e.id from ScheduledEmailEntity e where e.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ScheduledEmailEntity e where e.id in :ids and e.claimedBy = :owner")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+}
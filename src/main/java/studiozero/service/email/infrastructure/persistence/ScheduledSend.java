@@ -0,0 +1,9 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import java.time.Instant;
+
+public record ScheduledSend(
+        Long id,
+        Instant sendAt
+) {
+}
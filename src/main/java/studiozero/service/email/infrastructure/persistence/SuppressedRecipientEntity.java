@@ -0,0 +1,69 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "suppressed_recipient", indexes = @Index(name = "idx_suppressed_recipient_created_at", columnList = "created_at"))
+public class SuppressedRecipientEntity implements Persistable<String> {
+    public static final int REASON_MAX_LENGTH = 64;
+
+    @Id
+    @Column(name = "email", length = 254)
+    private String email;
+
+    @Column(name = "reason", length = REASON_MAX_LENGTH)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public SuppressedRecipientEntity(String email, String reason, Instant createdAt) {
+        this.email = email;
+        this.reason = reason;
+        this.createdAt = createdAt;
+    }
+
+    protected SuppressedRecipientEntity() {
+    }
+
+    @Override
+    public String getId() {
+        return email;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
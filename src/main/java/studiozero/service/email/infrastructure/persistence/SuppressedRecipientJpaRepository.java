@@ -0,0 +1,26 @@
+package studiozero.service.email.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface SuppressedRecipientJpaRepository extends JpaRepository<SuppressedRecipientEntity, String> {
+
+    @Query("select s.email from SuppressedRecipientEntity s where s.email > :afterEmail order by s.email")
+    List<String> findEmailsAfter(@Param("afterEmail") String afterEmail, Pageable pageable);
+
+    @Query("select s.email from SuppressedRecipientEntity s where s.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select s from SuppressedRecipientEntity s "
+            + "where s.createdAt > :afterCreatedAt or (s.createdAt = :afterCreatedAt and s.email > :afterEmail) "
+            + "order by s.createdAt, s.email")
+    List<SuppressedRecipientEntity> findCreatedAfter(@Param("afterCreatedAt") Instant afterCreatedAt,
+                                                     @Param("afterEmail") String afterEmail,
+                                                     Pageable pageable);
+}
@@ -0,0 +1,30 @@
+package studiozero.service.email.infrastructure.ratelimit;
+
+import java.time.Clock;
+import java.time.Duration;
+
+public class LocalWindowCounter {
+    private final long limit;
+    private final long windowMillis;
+    private final Clock clock;
+    private long currentWindow = -1;
+    private long used;
+
+    public LocalWindowCounter(long limit, Duration window, Clock clock) {
+        this.limit = limit;
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public synchronized int tryTake(int requested) {
+        long window = clock.millis() / windowMillis;
+        if (window != currentWindow) {
+            currentWindow = window;
+            used = 0;
+        }
+
+        int granted = (int) Math.max(0, Math.min(requested, limit - used));
+        used += granted;
+        return granted;
+    }
+}
@@ -0,0 +1,135 @@
+package studiozero.service.email.infrastructure.scaling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import studiozero.service.email.infrastructure.consumer.EmailConsumer;
+import studiozero.service.email.infrastructure.metrics.SendMetrics;
+
+import java.util.concurrent.BlockingQueue;
+
+@Component
+@ConditionalOnProperty(name = "email.autoscaling.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyAutoscaler {
+    private final Logger log = LoggerFactory.getLogger(ConcurrencyAutoscaler.class);
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final ThreadPoolTaskExecutor emailSenderTaskExecutor;
+    private final SendMetrics sendMetrics;
+    private final HysteresisScaler listenerScaler;
+    private final HysteresisScaler senderScaler;
+    private final String queueName;
+    private final long queueDepthHigh;
+    private final long queueDepthLow;
+    private final double executorFillHigh;
+    private final double executorFillLow;
+    private final long maxSmtpLatencyMillis;
+    private final long maxQuotaWaitMillis;
+    private SendMetrics.Snapshot lastSnapshot;
+
+    public ConcurrencyAutoscaler(RabbitListenerEndpointRegistry listenerRegistry,
+                                 AmqpAdmin amqpAdmin,
+                                 @Qualifier("emailSenderTaskExecutor") ThreadPoolTaskExecutor emailSenderTaskExecutor,
+                                 SendMetrics sendMetrics,
+                                 @Qualifier("listenerScaler") HysteresisScaler listenerScaler,
+                                 @Qualifier("senderScaler") HysteresisScaler senderScaler,
+                                 @Value("${broker.daily-email-queue}") String queueName,
+                                 @Value("${email.autoscaling.queue-depth-high:100}") long queueDepthHigh,
+                                 @Value("${email.autoscaling.queue-depth-low:10}") long queueDepthLow,
+                                 @Value("${email.autoscaling.executor-fill-high:0.75}") double executorFillHigh,
+                                 @Value("${email.autoscaling.executor-fill-low:0.10}") double executorFillLow,
+                                 @Value("${email.autoscaling.max-smtp-latency-millis:5000}") long maxSmtpLatencyMillis,
+                                 @Value("${email.autoscaling.max-quota-wait-millis:100}") long maxQuotaWaitMillis) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.emailSenderTaskExecutor = emailSenderTaskExecutor;
+        this.sendMetrics = sendMetrics;
+        this.listenerScaler = listenerScaler;
+        this.senderScaler = senderScaler;
+        this.queueName = queueName;
+        this.queueDepthHigh = queueDepthHigh;
+        this.queueDepthLow = queueDepthLow;
+        this.executorFillHigh = executorFillHigh;
+        this.executorFillLow = executorFillLow;
+        this.maxSmtpLatencyMillis = maxSmtpLatencyMillis;
+        this.maxQuotaWaitMillis = maxQuotaWaitMillis;
+        this.lastSnapshot = sendMetrics.snapshot();
+    }
+
+    @Scheduled(fixedDelayString = "${email.autoscaling.interval-millis:10000}")
+    public void adjustConcurrency() {
+        SendMetrics.Snapshot snapshot = sendMetrics.snapshot();
+        SendMetrics.Snapshot window = snapshot.since(lastSnapshot);
+        lastSnapshot = snapshot;
+
+        boolean quotaThrottled = sendMetrics.quotaWaiters() > 0 || window.averageQuotaWaitMillis() > maxQuotaWaitMillis;
+
+        adjustSenders(window.averageLatencyMillis(), quotaThrottled);
+        adjustListener(quotaThrottled);
+    }
+
+    private void adjustSenders(long smtpLatencyMillis, boolean quotaThrottled) {
+        BlockingQueue<Runnable> queue = emailSenderTaskExecutor.getThreadPoolExecutor().getQueue();
+        int capacity = queue.size() + queue.remainingCapacity();
+        double fill = capacity == 0 ? 0 : (double) queue.size() / capacity;
+
+        boolean smtpSaturated = smtpLatencyMillis > maxSmtpLatencyMillis;
+        boolean overloaded = fill >= executorFillHigh && !smtpSaturated && !quotaThrottled;
+        boolean idle = fill <= executorFillLow || smtpSaturated || quotaThrottled;
+
+        int current = emailSenderTaskExecutor.getCorePoolSize();
+        int target = senderScaler.next(current, overloaded, idle);
+        if (target == current) {
+            return;
+        }
+
+        // ======= Ordem importa: o core nunca fica maior que o max ===== //
+        if (target > current) {
+            emailSenderTaskExecutor.setMaxPoolSize(target);
+            emailSenderTaskExecutor.setCorePoolSize(target);
+        } else {
+            emailSenderTaskExecutor.setCorePoolSize(target);
+            emailSenderTaskExecutor.setMaxPoolSize(target);
+        }
+        log.info("⚖️ Sender concurrency {} -> {} (queue fill {}%, SMTP latency {} ms, quota throttled {})",
+                current, target, Math.round(fill * 100), smtpLatencyMillis, quotaThrottled);
+    }
+
+    private void adjustListener(boolean quotaThrottled) {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(EmailConsumer.LISTENER_ID);
+        if (!(container instanceof SimpleMessageListenerContainer listener) || !listener.isRunning()) {
+            return;
+        }
+
+        QueueInformation queueInfo;
+        try {
+            queueInfo = amqpAdmin.getQueueInfo(queueName);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Could not sample depth of queue {}. Cause: {}", queueName, e.getMessage());
+            return;
+        }
+        if (queueInfo == null) {
+            return;
+        }
+
+        long depth = queueInfo.getMessageCount();
+        int current = listener.getActiveConsumerCount();
+        int target = listenerScaler.next(current, depth > queueDepthHigh && !quotaThrottled, depth < queueDepthLow);
+        if (target == current) {
+            return;
+        }
+
+        listener.setConcurrentConsumers(target);
+        log.info("⚖️ Listener consumers {} -> {} (queue depth {})", current, target, depth);
+    }
+}
@@ -0,0 +1,40 @@
+package studiozero.service.email.infrastructure.scaling;
+
+public class HysteresisScaler {
+    private final int min;
+    private final int max;
+    private final int scaleUpAfter;
+    private final int scaleDownAfter;
+    private int overloadedSamples;
+    private int idleSamples;
+
+    public HysteresisScaler(int min, int max, int scaleUpAfter, int scaleDownAfter) {
+        if (min < 1 || max < min) {
+            throw new IllegalArgumentException("Invalid scaling bounds [" + min + ", " + max + "]");
+        }
+        this.min = min;
+        this.max = max;
+        this.scaleUpAfter = scaleUpAfter;
+        this.scaleDownAfter = scaleDownAfter;
+    }
+
+    public synchronized int next(int current, boolean overloaded, boolean idle) {
+        overloadedSamples = overloaded ? overloadedSamples + 1 : 0;
+        idleSamples = idle && !overloaded ? idleSamples + 1 : 0;
+
+        int target = clamp(current);
+        if (overloadedSamples >= scaleUpAfter && target < max) {
+            overloadedSamples = 0;
+            return target + 1;
+        }
+        if (idleSamples >= scaleDownAfter && target > min) {
+            idleSamples = 0;
+            return target - 1;
+        }
+        return target;
+    }
+
+    private int clamp(int value) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,134 @@
+package studiozero.service.email.infrastructure.scheduling;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+public class HierarchicalTimingWheel<T> {
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final int levels;
+    private final long slotMask;
+    private final Node<T>[][] buckets;
+    private Node<T> overdue;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(Duration tick, int slotsPerLevel, int levels, long startMillis) {
+        if (Integer.bitCount(slotsPerLevel) != 1 || slotsPerLevel < 2) {
+            throw new IllegalArgumentException("slotsPerLevel must be a power of two");
+        }
+        if (levels < 1 || (long) Integer.numberOfTrailingZeros(slotsPerLevel) * levels > 62) {
+            throw new IllegalArgumentException("levels out of range for " + slotsPerLevel + " slots per level");
+        }
+        this.tickMillis = tick.toMillis();
+        this.bitsPerLevel = Integer.numberOfTrailingZeros(slotsPerLevel);
+        this.levels = levels;
+        this.slotMask = slotsPerLevel - 1;
+        this.buckets = new Node[levels][slotsPerLevel];
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    public synchronized void schedule(T item, long deadlineMillis) {
+        // ======= Arredonda para cima: nunca libera antes do horário ===== //
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(new Node<>(item, deadlineTick));
+        size++;
+    }
+
+    public synchronized int advance(long nowMillis, Consumer<T> expired) {
+        int released = drain(takeOverdue(), expired);
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            int slot = (int) (currentTick & slotMask);
+            Node<T> head = buckets[0][slot];
+            buckets[0][slot] = null;
+            released += drain(head, expired);
+            released += drain(takeOverdue(), expired);
+        }
+        return released;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            int shift = bitsPerLevel * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> shift) & slotMask);
+            Node<T> node = buckets[level][slot];
+            buckets[level][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    private void place(Node<T> node) {
+        long delta = node.deadlineTick - currentTick;
+        if (delta <= 0) {
+            node.next = overdue;
+            overdue = node;
+            return;
+        }
+
+        for (int level = 0; level < levels; level++) {
+            int shift = bitsPerLevel * level;
+            if (delta < 1L << (shift + bitsPerLevel)) {
+                push(level, (int) ((node.deadlineTick >>> shift) & slotMask), node);
+                return;
+            }
+        }
+
+        int top = levels - 1;
+        long horizonTick = currentTick + (1L << (bitsPerLevel * levels)) - 1;
+        push(top, (int) ((horizonTick >>> (bitsPerLevel * top)) & slotMask), node);
+    }
+
+    private void push(int level, int slot, Node<T> node) {
+        node.next = buckets[level][slot];
+        buckets[level][slot] = node;
+    }
+
+    private Node<T> takeOverdue() {
+        Node<T> head = overdue;
+        overdue = null;
+        return head;
+    }
+
+    private int drain(Node<T> node, Consumer<T> expired) {
+        int released = 0;
+        while (node != null) {
+            Node<T> next = node.next;
+            if (node.deadlineTick > currentTick) {
+                place(node);
+            } else {
+                size--;
+                released++;
+                expired.accept(node.item);
+            }
+            node = next;
+        }
+        return released;
+    }
+
+    private static final class Node<T> {
+        private final T item;
+        private final long deadlineTick;
+        private Node<T> next;
+
+        private Node(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package studiozero.service.email.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailEntity;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailJpaRepository;
+import studiozero.service.email.infrastructure.persistence.ScheduledSend;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(name = "email.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledEmailDispatcher {
+    private static final int RECOVERY_PAGE_SIZE = 5_000;
+
+    private final Logger log = LoggerFactory.getLogger(ScheduledEmailDispatcher.class);
+    private final HierarchicalTimingWheel<Long> scheduledEmailWheel;
+    private final ScheduledEmailJpaRepository scheduledEmailJpaRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final String dailyEmailQueue;
+    private final int releaseBatchSize;
+    private final String instanceId;
+    private final long claimTimeoutMillis;
+    private final long orphanGraceMillis;
+    private final long confirmTimeoutMillis;
+    private final Set<Long> dueEmails = new LinkedHashSet<>();
+
+    public ScheduledEmailDispatcher(HierarchicalTimingWheel<Long> scheduledEmailWheel,
+                                    ScheduledEmailJpaRepository scheduledEmailJpaRepository,
+                                    RabbitTemplate rabbitTemplate,
+                                    @Value("${broker.daily-email-queue}") String dailyEmailQueue,
+                                    @Value("${email.scheduling.release-batch-size:100}") int releaseBatchSize,
+                                    @Value("${email.scheduling.instance-id:${random.uuid}}") String instanceId,
+                                    @Value("${email.scheduling.claim-timeout-millis:600000}") long claimTimeoutMillis,
+                                    @Value("${email.scheduling.orphan-grace-millis:60000}") long orphanGraceMillis,
+                                    @Value("${email.scheduling.forward-confirm-timeout-millis:5000}") long confirmTimeoutMillis) {
+        this.scheduledEmailWheel = scheduledEmailWheel;
+        this.scheduledEmailJpaRepository = scheduledEmailJpaRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.dailyEmailQueue = dailyEmailQueue;
+        this.releaseBatchSize = releaseBatchSize;
+        this.instanceId = instanceId;
+        this.claimTimeoutMillis = claimTimeoutMillis;
+        this.orphanGraceMillis = orphanGraceMillis;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingEmails() {
+        long afterId = 0;
+        int recovered = 0;
+        List<ScheduledSend> page;
+
+        do {
+            page = scheduledEmailJpaRepository.findPendingAfter(afterId, PageRequest.of(0, RECOVERY_PAGE_SIZE));
+            for (ScheduledSend pending : page) {
+                scheduledEmailWheel.schedule(pending.id(), pending.sendAt().toEpochMilli());
+                afterId = pending.id();
+            }
+            recovered += page.size();
+        } while (page.size() == RECOVERY_PAGE_SIZE);
+
+        log.info("⏰ Recovered {} pending scheduled emails", recovered);
+    }
+
+    @Scheduled(fixedDelayString = "${email.scheduling.tick-millis:1000}")
+    public void releaseDueEmails() {
+        long now = System.currentTimeMillis();
+        scheduledEmailWheel.advance(now, dueEmails::add);
+        if (dueEmails.isEmpty()) {
+            return;
+        }
+
+        Set<Long> batch = new LinkedHashSet<>();
+        Iterator<Long> due = dueEmails.iterator();
+        while (batch.size() < releaseBatchSize && due.hasNext()) {
+            batch.add(due.next());
+            due.remove();
+        }
+
+        // ======= Reserva antes de enviar ===== //
+        scheduledEmailJpaRepository.claim(batch, instanceId, Instant.ofEpochMilli(now),
+                Instant.ofEpochMilli(now - claimTimeoutMillis));
+        List<ScheduledEmailEntity> claimed = scheduledEmailJpaRepository.findClaimed(batch, instanceId);
+
+        Set<Long> claimedIds = new LinkedHashSet<>();
+        for (ScheduledEmailEntity scheduled : claimed) {
+            claimedIds.add(scheduled.getId());
+        }
+        if (!claimedIds.isEmpty()) {
+            release(claimed, claimedIds);
+        }
+
+        batch.removeAll(claimedIds);
+        if (!batch.isEmpty()) {
+            recheckClaimedElsewhere(batch, now);
+        }
+
+        if (!dueEmails.isEmpty()) {
+            log.debug("⏰ {} due scheduled emails waiting for the next release", dueEmails.size());
+        }
+    }
+
+    // ======= Apaga só depois do confirm: duplicado sim, perda nunca ===== //
+    // ======= Sem sendAt: relógio atrasado não reagenda um evento vencido ===== //
+    private void release(List<ScheduledEmailEntity> claimed, Set<Long> claimedIds) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (ScheduledEmailEntity scheduled : claimed) {
+                    ConsumeEmailEventDto event = scheduled.getEvent();
+                    operations.convertAndSend("", dailyEmailQueue,
+                            new ConsumeEmailEventDto(event.to(), event.subJobs(), event.tasks()));
+                }
+                operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("❌ Error releasing {} scheduled emails to the queue. Cause: {}", claimed.size(), e.getMessage(), e);
+            return;
+        }
+        scheduledEmailJpaRepository.deleteClaimed(claimedIds, instanceId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${email.scheduling.sweep-interval-millis:60000}",
+            initialDelayString = "${email.scheduling.sweep-interval-millis:60000}"
+    )
+    public void sweepOrphanedEmails() {
+        long now = System.currentTimeMillis();
+        List<ScheduledSend> orphaned = scheduledEmailJpaRepository.findOrphaned(
+                Instant.ofEpochMilli(now - orphanGraceMillis),
+                Instant.ofEpochMilli(now - claimTimeoutMillis),
+                PageRequest.of(0, RECOVERY_PAGE_SIZE));
+        for (ScheduledSend pending : orphaned) {
+            scheduledEmailWheel.schedule(pending.id(), now);
+        }
+        if (!orphaned.isEmpty()) {
+            log.info("⏰ Picked up {} overdue scheduled emails left behind by other instances", orphaned.size());
+        }
+    }
+
+    private void recheckClaimedElsewhere(Set<Long> ids, long now) {
+        List<Long> stillPending = scheduledEmailJpaRepository.findExistingIds(ids);
+        for (Long id : stillPending) {
+            scheduledEmailWheel.schedule(id, now + claimTimeoutMillis);
+        }
+        if (!stillPending.isEmpty()) {
+            log.debug("⏰ {} scheduled emails claimed by another instance, rechecking later", stillPending.size());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package studiozero.service.email.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+public class ApiKeyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Api-Key";
+
+    private final Logger log = LoggerFactory.getLogger(ApiKeyFilter.class);
+    private final byte[] apiKey;
+
+    public ApiKeyFilter(String apiKey) {
+        this.apiKey = apiKey == null ? new byte[0] : apiKey.getBytes(StandardCharsets.UTF_8);
+        if (this.apiKey.length == 0) {
+            log.warn("⚠️ No API key configured: protected endpoints will refuse every request");
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String provided = request.getHeader(HEADER);
+
+        // ======= Tempo constante: não vaza o segredo por timing ===== //
+        if (apiKey.length == 0 || provided == null
+                || !MessageDigest.isEqual(apiKey, provided.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("🔒 Refused {} {} from {}: missing or invalid API key",
+                    request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+}
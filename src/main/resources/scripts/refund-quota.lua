@@ -0,0 +1,20 @@
+-- Devolve tokens de um lote não usado às janelas de onde saíram.
+-- KEYS[1] = prefixo do contador por minuto, KEYS[2] = prefixo do contador diário
+-- ARGV[1] = tokens a devolver, ARGV[2] = janela curta, ARGV[3] = janela longa (como retornadas pelo send-quota.lua)
+-- Janela já encerrada não tem mais chave, então nada é devolvido a ela; o contador nunca fica negativo.
+local tokens = tonumber(ARGV[1])
+local refunded = 0
+
+for i, window in ipairs({ARGV[2], ARGV[3]}) do
+    local key = KEYS[i] .. ':' .. window
+    local used = tonumber(redis.call('GET', key))
+    if used then
+        local amount = math.min(used, tokens)
+        redis.call('DECRBY', key, amount)
+        if i == 2 then
+            refunded = amount
+        end
+    end
+end
+
+return refunded
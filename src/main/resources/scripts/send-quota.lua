@@ -0,0 +1,44 @@
+-- Contadores de janela fixa (por minuto e por dia UTC) compartilhados entre todas as réplicas.
+-- Diferente de um token bucket contínuo, a soma concedida dentro de uma janela nunca passa do limite.
+-- KEYS[1] = prefixo do contador por minuto, KEYS[2] = prefixo do contador diário
+-- ARGV[1] = tokens pedidos, ARGV[2] = limite por minuto, ARGV[3] = limite por dia
+-- ARGV[4] = duração da janela curta (ms), ARGV[5] = duração da janela longa (ms)
+-- Retorna {concedidos, janela curta, janela longa, ms até o fim da janela curta, ms até a cota ter espaço de novo};
+-- as janelas identificam de onde os tokens saíram, para o refund-quota.lua devolver o que sobrar.
+local requested = tonumber(ARGV[1])
+local minuteLimit = tonumber(ARGV[2])
+local dayLimit = tonumber(ARGV[3])
+local minuteWindow = tonumber(ARGV[4])
+local dayWindow = tonumber(ARGV[5])
+
+-- O relógio do Redis é o único que todas as réplicas enxergam igual
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- Janelas alinhadas à época, então a janela de um dia vira exatamente o dia UTC
+local minuteIndex = math.floor(now / minuteWindow)
+local dayIndex = math.floor(now / dayWindow)
+-- Todas as chaves herdam o hash tag do prefixo e caem no mesmo slot do cluster
+local minuteKey = KEYS[1] .. ':' .. minuteIndex
+local dayKey = KEYS[2] .. ':' .. dayIndex
+
+local minuteUsed = tonumber(redis.call('GET', minuteKey)) or 0
+local dayUsed = tonumber(redis.call('GET', dayKey)) or 0
+local granted = math.max(0, math.min(requested, minuteLimit - minuteUsed, dayLimit - dayUsed))
+
+if granted > 0 then
+    redis.call('INCRBY', minuteKey, granted)
+    redis.call('PEXPIREAT', minuteKey, (minuteIndex + 1) * minuteWindow)
+    redis.call('INCRBY', dayKey, granted)
+    redis.call('PEXPIREAT', dayKey, (dayIndex + 1) * dayWindow)
+end
+
+-- Limite esgotado: o diário só reabre no próximo dia UTC, o do minuto na próxima janela curta
+local retryIn = 0
+if dayUsed + granted >= dayLimit then
+    retryIn = (dayIndex + 1) * dayWindow - now
+elseif minuteUsed + granted >= minuteLimit then
+    retryIn = (minuteIndex + 1) * minuteWindow - now
+end
+
+return {granted, minuteIndex, dayIndex, (minuteIndex + 1) * minuteWindow - now, retryIn}
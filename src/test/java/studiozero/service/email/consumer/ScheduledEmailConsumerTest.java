@@ -0,0 +1,48 @@
+package studiozero.service.email.consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.consumer.ScheduledEmailConsumer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledEmailConsumer Tests")
+class ScheduledEmailConsumerTest {
+
+    @Mock
+    private SendDailyEmailUseCase sendDailyEmailUseCase;
+
+    @InjectMocks
+    private ScheduledEmailConsumer scheduledEmailConsumer;
+
+    private final ConsumeEmailEventDto eventDto =
+            new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of());
+
+    @Test
+    @DisplayName("Should hand forwarded events to the use case, which schedules or sends them")
+    void shouldPassForwardedEventToUseCase() {
+        scheduledEmailConsumer.consumeScheduledEvent(eventDto);
+
+        verify(sendDailyEmailUseCase).execute(eventDto);
+    }
+
+    @Test
+    @DisplayName("Should propagate failures so the broker redelivers the event")
+    void shouldPropagateFailures() {
+        doThrow(new IllegalStateException("database unavailable")).when(sendDailyEmailUseCase).execute(eventDto);
+
+        assertThatThrownBy(() -> scheduledEmailConsumer.consumeScheduledEvent(eventDto))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
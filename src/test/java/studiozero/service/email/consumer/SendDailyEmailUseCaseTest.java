@@ -6,16 +6,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import studiozero.service.email.application.services.DailyDigestHtmlRenderer;
+import studiozero.service.email.application.services.RecipientNormalizer;
 import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
 import studiozero.service.email.domain.dtos.SubJob;
 import studiozero.service.email.domain.dtos.Task;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
 import studiozero.service.email.domain.repositories.SendEmailRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
 import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -26,9 +30,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SendDailyEmailUseCase Tests")
@@ -37,7 +43,12 @@ class SendDailyEmailUseCaseTest {
     @Mock
     private SendEmailRepository sendEmailRepository;
 
-    @InjectMocks
+    @Mock
+    private ScheduledEmailRepository scheduledEmailRepository;
+
+    private final RecipientNormalizer recipientNormalizer =
+            new RecipientNormalizer(domain -> true, false, mock(SuppressionRepository.class));
+
     private SendDailyEmailUseCase sendDailyEmailUseCase;
 
     @Captor
@@ -54,6 +65,8 @@ class SendDailyEmailUseCaseTest {
     @BeforeEach
     void setUp() {
         recipients = List.of("employee1@example.com", "employee2@example.com");
+        sendDailyEmailUseCase = new SendDailyEmailUseCase(
+                sendEmailRepository, recipientNormalizer, scheduledEmailRepository, new DailyDigestHtmlRenderer(), false);
     }
 
     @Test
@@ -63,7 +76,7 @@ class SendDailyEmailUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Dados recebidos nulos");
 
-        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString());
+        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString(), any());
     }
 
     @Test
@@ -79,7 +92,7 @@ class SendDailyEmailUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Lista de destinatários vazia ou nula");
 
-        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString());
+        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString(), any());
     }
 
     @Test
@@ -95,7 +108,7 @@ class SendDailyEmailUseCaseTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Lista de destinatários vazia ou nula");
 
-        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString());
+        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString(), any());
     }
 
     @Test
@@ -112,7 +125,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 recipientsCaptor.capture(),
                 subjectCaptor.capture(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         assertThat(recipientsCaptor.getValue()).isEqualTo(recipients);
@@ -139,7 +153,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 recipientsCaptor.capture(),
                 subjectCaptor.capture(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         assertThat(recipientsCaptor.getValue()).isEqualTo(recipients);
@@ -172,7 +187,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 recipientsCaptor.capture(),
                 subjectCaptor.capture(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         assertThat(recipientsCaptor.getValue()).isEqualTo(recipients);
@@ -208,7 +224,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 recipientsCaptor.capture(),
                 subjectCaptor.capture(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         String content = contentCaptor.getValue();
@@ -234,7 +251,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 any(),
                 any(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         String content = contentCaptor.getValue();
@@ -260,7 +278,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 any(),
                 any(),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         String content = contentCaptor.getValue();
@@ -292,7 +311,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 recipientsCaptor.capture(),
                 any(),
-                any()
+                any(),
+                eq(eventDto)
         );
 
         assertThat(recipientsCaptor.getValue()).hasSize(3);
@@ -321,7 +341,8 @@ class SendDailyEmailUseCaseTest {
         verify(sendEmailRepository, times(1)).sendEmail(
                 any(),
                 eq("StudioZero: Você tem deveres para hoje!"),
-                contentCaptor.capture()
+                contentCaptor.capture(),
+                eq(eventDto)
         );
 
         String content = contentCaptor.getValue();
@@ -330,4 +351,68 @@ class SendDailyEmailUseCaseTest {
         assertThat(content).contains("Tarefa 1");
         assertThat(content).contains("Tarefa 10");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should schedule instead of sending when sendAt is in the future")
+    void shouldScheduleWhenSendAtIsInTheFuture() {
+        OffsetDateTime sendAt = OffsetDateTime.now().plusDays(1);
+        ConsumeEmailEventDto eventDto = new ConsumeEmailEventDto(
+                recipients,
+                List.of(new SubJob("Cliente A", "Atendimento Yoga")),
+                Collections.emptyList(),
+                sendAt
+        );
+
+        sendDailyEmailUseCase.execute(eventDto);
+
+        verify(scheduledEmailRepository, times(1)).schedule(eventDto, sendAt.toInstant());
+        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should send immediately when sendAt is already due")
+    void shouldSendImmediatelyWhenSendAtIsDue() {
+        ConsumeEmailEventDto eventDto = new ConsumeEmailEventDto(
+                recipients,
+                List.of(new SubJob("Cliente A", "Atendimento Yoga")),
+                Collections.emptyList(),
+                OffsetDateTime.now().minusMinutes(1)
+        );
+
+        sendDailyEmailUseCase.execute(eventDto);
+
+        verify(sendEmailRepository, times(1)).sendEmail(anyList(), anyString(), anyString(), any());
+        verifyNoInteractions(scheduledEmailRepository);
+    }
+
+    @Test
+    @DisplayName("Should send HTML digest with inline assets when HTML is enabled")
+    void shouldSendHtmlDigestWhenHtmlIsEnabled() {
+        SendDailyEmailUseCase htmlUseCase = new SendDailyEmailUseCase(
+                sendEmailRepository, recipientNormalizer, scheduledEmailRepository, new DailyDigestHtmlRenderer(), true);
+        ConsumeEmailEventDto eventDto = new ConsumeEmailEventDto(
+                recipients,
+                List.of(new SubJob("Cliente <A>", "Atendimento Yoga")),
+                List.of(new Task("Preparar relatório", LocalDate.of(2024, 12, 10)))
+        );
+        ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
+
+        htmlUseCase.execute(eventDto);
+
+        verify(sendEmailRepository, times(1)).sendHtmlEmail(
+                eq(recipients),
+                eq("StudioZero: Você tem deveres para hoje!"),
+                contentCaptor.capture(),
+                htmlCaptor.capture(),
+                eq(List.of("logo.png", "icon-subjob.png", "icon-task.png")),
+                eq(eventDto)
+        );
+        verify(sendEmailRepository, never()).sendEmail(anyList(), anyString(), anyString(), any());
+
+        assertThat(contentCaptor.getValue()).contains("- Atendimento Yoga (Cliente: Cliente <A>)");
+        assertThat(htmlCaptor.getValue())
+                .contains("cid:logo.png")
+                .contains("Cliente &lt;A&gt;")
+                .contains("(Prazo: 10/12/2024)");
+    }
+}
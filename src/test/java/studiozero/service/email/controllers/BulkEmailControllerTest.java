@@ -0,0 +1,119 @@
+package studiozero.service.email.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.controllers.BulkEmailController;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkEmailController Tests")
+class BulkEmailControllerTest {
+
+    @Mock
+    private SendDailyEmailUseCase sendDailyEmailUseCase;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        mockMvc = MockMvcBuilders.standaloneSetup(new BulkEmailController(sendDailyEmailUseCase, objectMapper)).build();
+    }
+
+    @Test
+    @DisplayName("Should feed every NDJSON record into the send use case")
+    void shouldFeedEveryRecordIntoUseCase() throws Exception {
+        String body = """
+                {"to":["employee1@example.com"],"subJobs":[],"tasks":[{"title":"Tarefa 1","limitDate":"2024-12-10"}]}
+                {"to":["employee2@example.com"],"subJobs":[{"clientName":"Cliente A","title":"Atendimento"}],"tasks":[]}
+                """;
+
+        mockMvc.perform(post("/emails/bulk").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        verify(sendDailyEmailUseCase, times(2)).execute(any(ConsumeEmailEventDto.class));
+        verify(sendDailyEmailUseCase).execute(argThat(event ->
+                event.tasks().size() == 1 && event.tasks().get(0).limitDate().equals(LocalDate.of(2024, 12, 10))));
+    }
+
+    @Test
+    @DisplayName("Should count records rejected by the use case and keep going")
+    void shouldCountRejectedRecords() throws Exception {
+        doThrow(new IllegalArgumentException("Lista de destinatários vazia ou nula"))
+                .when(sendDailyEmailUseCase).execute(argThat(event -> event.to().isEmpty()));
+        String body = """
+                {"to":[],"subJobs":[],"tasks":[]}
+                {"to":["employee@example.com"],"subJobs":[],"tasks":[]}
+                """;
+
+        mockMvc.perform(post("/emails/bulk").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(1));
+    }
+
+    @Test
+    @DisplayName("Should stop with 400 on a malformed record, reporting what was already accepted")
+    void shouldStopOnMalformedRecord() throws Exception {
+        String body = """
+                {"to":["employee@example.com"],"subJobs":[],"tasks":[]}
+                {"to": not-json}
+                {"to":["never@example.com"],"subJobs":[],"tasks":[]}
+                """;
+
+        mockMvc.perform(post("/emails/bulk").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.error").value("Malformed record at line 2"));
+
+        verify(sendDailyEmailUseCase, times(1)).execute(any(ConsumeEmailEventDto.class));
+    }
+
+    @Test
+    @DisplayName("Should stop with 500 on a service failure, reporting what was already accepted")
+    void shouldStopOnServiceFailure() throws Exception {
+        doAnswer(invocation -> {
+            if (invocation.<ConsumeEmailEventDto>getArgument(0).to().contains("fails@example.com")) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return null;
+        }).when(sendDailyEmailUseCase).execute(any(ConsumeEmailEventDto.class));
+        String body = """
+                {"to":["employee@example.com"],"subJobs":[],"tasks":[]}
+                {"to":["fails@example.com"],"subJobs":[],"tasks":[]}
+                {"to":["never@example.com"],"subJobs":[],"tasks":[]}
+                """;
+
+        mockMvc.perform(post("/emails/bulk").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.error").value("Failed to submit record at line 2"));
+
+        verify(sendDailyEmailUseCase, times(2)).execute(any(ConsumeEmailEventDto.class));
+    }
+}
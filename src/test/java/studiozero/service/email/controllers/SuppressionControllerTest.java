@@ -0,0 +1,106 @@
+package studiozero.service.email.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.controllers.SuppressionController;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuppressionController Tests")
+class SuppressionControllerTest {
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SuppressionController(suppressionRepository)).build();
+    }
+
+    @Test
+    @DisplayName("Should suppress a syntactically valid address")
+    void shouldSuppressValidAddress() throws Exception {
+        mockMvc.perform(post("/suppressions").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"Bounced@Example.com\",\"reason\":\"manual\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(suppressionRepository).suppress("Bounced@Example.com", "manual");
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for an address that would never be accepted as a recipient")
+    void shouldRejectInvalidAddress() throws Exception {
+        mockMvc.perform(post("/suppressions").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"not-an-email\",\"reason\":\"manual\"}"))
+                .andExpect(status().isBadRequest());
+
+        verify(suppressionRepository, never()).suppress(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should answer 400 for a reason longer than the stored column")
+    void shouldRejectReasonTooLong() throws Exception {
+        String reason = "x".repeat(65);
+
+        mockMvc.perform(post("/suppressions").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"bounced@example.com\",\"reason\":\"" + reason + "\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/suppressions/import").param("reason", reason)
+                        .contentType(MediaType.TEXT_PLAIN).content("bounced@example.com\n"))
+                .andExpect(status().isBadRequest());
+
+        verify(suppressionRepository, never()).suppress(any(), any());
+        verify(suppressionRepository, never()).suppressAll(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should import only valid lines and report invalid and already-suppressed ones")
+    void shouldCountInvalidImportLines() throws Exception {
+        when(suppressionRepository.suppressAll(anyCollection(), eq("import"))).thenReturn(1);
+        String body = """
+                bounced@example.com
+                not-an-email
+
+                OLD@example.com
+                someone@localhost
+                """;
+
+        mockMvc.perform(post("/suppressions/import").contentType(MediaType.TEXT_PLAIN).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.alreadySuppressed").value(1))
+                .andExpect(jsonPath("$.invalid").value(2));
+
+        ArgumentCaptor<Collection<String>> batch = batchCaptor();
+        verify(suppressionRepository).suppressAll(batch.capture(), eq("import"));
+        assertThat(batch.getValue()).containsExactly("bounced@example.com", "old@example.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<String>> batchCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+}
@@ -0,0 +1,128 @@
+package studiozero.service.email.mail;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import studiozero.service.email.infrastructure.mail.InlineAsset;
+import studiozero.service.email.infrastructure.mail.InlineAssetCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InlineAssetCache Tests")
+class InlineAssetCacheTest {
+
+    @Test
+    @DisplayName("Should read and encode each asset only once")
+    void shouldEncodeEachAssetOnlyOnce() {
+        CountingResourceLoader loader = new CountingResourceLoader(Map.of("logo.png", bytes("logo")));
+        InlineAssetCache cache = new InlineAssetCache(loader, "classpath:email/assets", 1024);
+
+        InlineAsset first = cache.get("logo.png");
+        InlineAsset second = cache.get("logo.png");
+
+        assertThat(second).isSameAs(first);
+        assertThat(loader.reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should store identical content under different names once")
+    void shouldDeduplicateIdenticalContent() {
+        CountingResourceLoader loader = new CountingResourceLoader(Map.of(
+                "icon-a.png", bytes("same"),
+                "icon-b.png", bytes("same")
+        ));
+        InlineAssetCache cache = new InlineAssetCache(loader, "classpath:email/assets/", 1024);
+
+        assertThat(cache.get("icon-b.png")).isSameAs(cache.get("icon-a.png"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used assets when over the byte budget")
+    void shouldEvictWhenOverBudget() {
+        CountingResourceLoader loader = new CountingResourceLoader(Map.of(
+                "a.png", bytes("a".repeat(600)),
+                "b.png", bytes("b".repeat(600))
+        ));
+        InlineAssetCache cache = new InlineAssetCache(loader, "classpath:email/assets/", 1000);
+
+        cache.get("a.png");
+        cache.get("b.png");
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.get("a.png");
+        assertThat(loader.reads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should write the pre-encoded bytes as an inline part with Content-ID")
+    void shouldWritePreEncodedInlinePart() throws Exception {
+        CountingResourceLoader loader = new CountingResourceLoader(Map.of("logo.png", bytes("logo")));
+        InlineAssetCache cache = new InlineAssetCache(loader, "classpath:email/assets/", 1024);
+
+        MimeBodyPart part = cache.get("logo.png").toBodyPart("logo.png");
+        MimeMessage message = new MimeMessage(Session.getInstance(new Properties()));
+        message.setContent(new MimeMultipart("related", part));
+        message.saveChanges();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+
+        String written = out.toString(StandardCharsets.US_ASCII);
+        assertThat(part.getContentID()).isEqualTo("<logo.png>");
+        assertThat(written).contains("Content-Type: image/png");
+        assertThat(written).contains("Content-Transfer-Encoding: base64");
+        assertThat(written).contains("Content-Disposition: inline");
+        assertThat(written).contains("bG9nbw==");
+    }
+
+    @Test
+    @DisplayName("Should refuse writes to the shared encoded bytes")
+    void shouldRefuseWritesToSharedBytes() throws Exception {
+        CountingResourceLoader loader = new CountingResourceLoader(Map.of("logo.png", bytes("logo")));
+        InlineAssetCache cache = new InlineAssetCache(loader, "classpath:email/assets/", 1024);
+
+        MimeBodyPart part = cache.get("logo.png").toBodyPart("logo.png");
+
+        assertThatThrownBy(() -> part.getDataHandler().getDataSource().getOutputStream())
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class CountingResourceLoader implements ResourceLoader {
+        private final Map<String, byte[]> contents = new HashMap<>();
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private CountingResourceLoader(Map<String, byte[]> contents) {
+            contents.forEach((name, bytes) -> this.contents.put("classpath:email/assets/" + name, bytes));
+        }
+
+        @Override
+        public Resource getResource(String location) {
+            reads.incrementAndGet();
+            return new ByteArrayResource(contents.get(location));
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return getClass().getClassLoader();
+        }
+    }
+}
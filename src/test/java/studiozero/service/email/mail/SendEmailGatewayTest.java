@@ -0,0 +1,224 @@
+package studiozero.service.email.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.BodyPart;
+import jakarta.mail.Message;
+import jakarta.mail.Part;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import studiozero.service.email.domain.dtos.Task;
+import studiozero.service.email.domain.repositories.ScheduledEmailRepository;
+import studiozero.service.email.domain.repositories.SendQuotaRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.gateways.DisabledSendQuotaGateway;
+import studiozero.service.email.infrastructure.gateways.SendEmailGateway;
+import studiozero.service.email.infrastructure.mail.InlineAssetCache;
+import studiozero.service.email.infrastructure.metrics.SendMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SendEmailGateway Tests")
+class SendEmailGatewayTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    @Mock
+    private ScheduledEmailRepository scheduledEmailRepository;
+
+    private final SendMetrics sendMetrics = new SendMetrics();
+    private InlineAssetCache inlineAssetCache;
+    private SendEmailGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        inlineAssetCache = new InlineAssetCache(new DefaultResourceLoader(), "classpath:email/assets/", 1_048_576);
+        gateway = gatewayWith(new DisabledSendQuotaGateway());
+    }
+
+    @Test
+    @DisplayName("Should send HTML as multipart/related with a text/html alternative and inline cid parts")
+    void shouldBuildRelatedMessageWithInlineAssets() throws Exception {
+        Session session = Session.getInstance(new Properties());
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+        ArgumentCaptor<MimeMessage> sent = ArgumentCaptor.forClass(MimeMessage.class);
+
+        gateway.sendHtmlEmail(List.of("employee@example.com"), "StudioZero: Você tem deveres para hoje!",
+                "Texto puro", "<img src=\"cid:logo.png\"><p>Olá</p>", List.of("logo.png", "icon-task.png"), event("employee@example.com"));
+
+        verify(mailSender).send(sent.capture());
+        MimeMessage message = sent.getValue();
+        message.saveChanges();
+        ByteArrayOutputStream wire = new ByteArrayOutputStream();
+        message.writeTo(wire);
+        MimeMessage received = new MimeMessage(session, new ByteArrayInputStream(wire.toByteArray()));
+
+        assertThat(received.getRecipients(Message.RecipientType.TO)).extracting(Address::toString)
+                .containsExactly("employee@example.com");
+        assertThat(received.getSubject()).isEqualTo("StudioZero: Você tem deveres para hoje!");
+        assertThat(received.getContentType()).startsWith("multipart/related");
+
+        MimeMultipart related = (MimeMultipart) received.getContent();
+        assertThat(related.getCount()).isEqualTo(3);
+
+        BodyPart alternativePart = related.getBodyPart(0);
+        assertThat(alternativePart.getContentType()).startsWith("multipart/alternative");
+        MimeMultipart alternative = (MimeMultipart) alternativePart.getContent();
+        assertThat(alternative.getCount()).isEqualTo(2);
+        assertThat(alternative.getBodyPart(0).getContentType()).startsWith("text/plain");
+        assertThat(alternative.getBodyPart(0).getContent()).isEqualTo("Texto puro");
+        assertThat(alternative.getBodyPart(1).getContentType()).startsWith("text/html");
+        assertThat((String) alternative.getBodyPart(1).getContent()).contains("cid:logo.png");
+
+        MimeBodyPart logo = (MimeBodyPart) related.getBodyPart(1);
+        assertThat(logo.getContentID()).isEqualTo("<logo.png>");
+        assertThat(logo.getContentType()).startsWith("image/png");
+        assertThat(logo.getDisposition()).isEqualTo(Part.INLINE);
+        assertThat(logo.getEncoding()).isEqualTo("base64");
+        assertThat(logo.getInputStream().readAllBytes())
+                .isEqualTo(new ClassPathResource("email/assets/logo.png").getContentAsByteArray());
+
+        MimeBodyPart icon = (MimeBodyPart) related.getBodyPart(2);
+        assertThat(icon.getContentID()).isEqualTo("<icon-task.png>");
+        assertThat(icon.getDisposition()).isEqualTo(Part.INLINE);
+    }
+
+    @Test
+    @DisplayName("Should suppress a recipient the server reports as an unknown mailbox")
+    void shouldSuppressUnknownMailbox() throws Exception {
+        rejectWith(550, "550 5.1.1 <gone@example.com>: Recipient address rejected: User unknown");
+
+        gateway.sendEmail(List.of("gone@example.com"), "Assunto", "Corpo", event("gone@example.com"));
+
+        verify(suppressionRepository).suppress("gone@example.com", "hard-bounce");
+    }
+
+    @Test
+    @DisplayName("Should not suppress a recipient rejected for policy or relay reasons")
+    void shouldNotSuppressPolicyRejection() throws Exception {
+        rejectWith(550, "550 5.7.1 <employee@example.com>: Relay access denied");
+
+        gateway.sendEmail(List.of("employee@example.com"), "Assunto", "Corpo", event("employee@example.com"));
+
+        verify(suppressionRepository, never()).suppress(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should not suppress a recipient on a 5.1.x status with a non-mailbox reply code")
+    void shouldNotSuppressOtherReplyCodes() throws Exception {
+        rejectWith(554, "554 5.1.0 <employee@example.com>: Transaction failed");
+
+        gateway.sendEmail(List.of("employee@example.com"), "Assunto", "Corpo", event("employee@example.com"));
+
+        verify(suppressionRepository, never()).suppress(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should defer a recipient to a quota retry slot instead of waiting on the caller thread")
+    void shouldDeferRecipientWhenQuotaIsExhausted() {
+        Instant nextWindow = Instant.parse("2024-12-11T00:00:00Z");
+        ExhaustedQuota quota = new ExhaustedQuota(nextWindow);
+        SendEmailGateway throttled = gatewayWith(quota);
+        List<Task> tasks = List.of(new Task("Tarefa 1", LocalDate.of(2024, 12, 10)));
+
+        throttled.sendEmail(List.of("employee@example.com"), "Assunto", "Corpo",
+                new ConsumeEmailEventDto(List.of("employee@example.com", "other@example.com"), List.of(), tasks));
+
+        assertThat(quota.requestedWaits).containsExactly(Duration.ZERO);
+        verify(scheduledEmailRepository).schedule(new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(),
+                tasks, nextWindow.atOffset(ZoneOffset.UTC)), nextWindow);
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+        assertThat(sendMetrics.snapshot().deferred()).isEqualTo(1);
+        assertThat(sendMetrics.snapshot().attempts()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count a recipient as failed when it can neither get quota nor be deferred")
+    void shouldCountFailureWhenDeferralFails() {
+        SendEmailGateway throttled = gatewayWith(new ExhaustedQuota(Instant.parse("2024-12-11T00:00:00Z")));
+        doThrow(new IllegalStateException("database unavailable"))
+                .when(scheduledEmailRepository).schedule(any(), any());
+
+        throttled.sendEmail(List.of("employee@example.com"), "Assunto", "Corpo", event("employee@example.com"));
+
+        assertThat(sendMetrics.snapshot().failed()).isEqualTo(1);
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+    }
+
+    private SendEmailGateway gatewayWith(SendQuotaRepository sendQuotaRepository) {
+        return new SendEmailGateway(mailSender, Runnable::run, sendMetrics, sendQuotaRepository,
+                suppressionRepository, inlineAssetCache, scheduledEmailRepository, Duration.ofSeconds(60));
+    }
+
+    private static ConsumeEmailEventDto event(String recipient) {
+        return new ConsumeEmailEventDto(List.of(recipient), List.of(), List.of());
+    }
+
+    private static class ExhaustedQuota implements SendQuotaRepository {
+        private final Instant nextWindow;
+        private final List<Duration> requestedWaits = new ArrayList<>();
+
+        ExhaustedQuota(Instant nextWindow) {
+            this.nextWindow = nextWindow;
+        }
+
+        @Override
+        public boolean tryAcquire(Duration maxWait) {
+            requestedWaits.add(maxWait);
+            return false;
+        }
+
+        @Override
+        public Instant reserveRetrySlot() {
+            return nextWindow;
+        }
+    }
+
+    private void rejectWith(int code, String response) throws Exception {
+        InternetAddress address = new InternetAddress(response.substring(response.indexOf('<') + 1, response.indexOf('>')));
+        SendFailedException sendFailed = new SendFailedException("Invalid Addresses",
+                new SMTPAddressFailedException(address, "RCPT TO:<" + address.getAddress() + ">", code, response),
+                null, null, new InternetAddress[]{address});
+        doThrow(new MailSendException(Map.of(new Object(), sendFailed)))
+                .when(mailSender).send(any(SimpleMailMessage.class));
+    }
+}
@@ -0,0 +1,238 @@
+package studiozero.service.email.quota;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import studiozero.service.email.infrastructure.gateways.RedisSendQuotaGateway;
+import studiozero.service.email.infrastructure.ratelimit.LocalWindowCounter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisSendQuotaGateway Tests")
+class RedisSendQuotaGatewayTest {
+    private static final List<String> KEYS = List.of("{email-quota}:minute", "{email-quota}:day");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisScript<List<Long>> quotaScript;
+
+    @Mock
+    private RedisScript<Long> refundScript;
+
+    private final MutableClock clock = new MutableClock();
+
+    private RedisSendQuotaGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new RedisSendQuotaGateway(
+                redisTemplate,
+                quotaScript,
+                refundScript,
+                "email-quota",
+                60,
+                2000,
+                10,
+                Duration.ofSeconds(5),
+                new LocalWindowCounter(2, Duration.ofMinutes(1), clock),
+                new LocalWindowCounter(3, Duration.ofDays(1), clock),
+                Duration.ofSeconds(30),
+                Duration.ofMillis(1),
+                clock
+        );
+    }
+
+    @Test
+    @DisplayName("Should lease tokens in batches instead of calling Redis per email")
+    void shouldLeaseTokensInBatches() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), eq("10"), eq("60"), eq("2000"), eq("60000"), eq("86400000")))
+                .thenReturn(List.of(10L, 7L, 3L, 60_000L, 0L));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(gateway.tryAcquire()).isTrue();
+        }
+
+        verify(redisTemplate, times(1)).execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should deny sending when the shared bucket is empty")
+    void shouldDenyWhenSharedBucketIsEmpty() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(0L, 8L, 3L, 60_000L, 60_000L));
+
+        assertThat(gateway.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should give up at once when the exhausted window only reopens after the deadline")
+    void shouldGiveUpWhenWindowReopensAfterDeadline() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(0L, 8L, 3L, 60_000L, 57_600_000L));
+
+        assertThat(gateway.tryAcquire(Duration.ofSeconds(60))).isFalse();
+        assertThat(gateway.reserveRetrySlot()).isEqualTo(Instant.parse("2024-12-11T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should spread deferred recipients across future windows at the per-minute rate")
+    void shouldSpreadRetrySlotsAtQuotaRate() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(0L, 8L, 3L, 60_000L, 60_000L));
+        assertThat(gateway.tryAcquire()).isFalse();
+
+        List<Instant> slots = new ArrayList<>();
+        for (int i = 0; i < 61; i++) {
+            slots.add(gateway.reserveRetrySlot());
+        }
+
+        assertThat(slots.get(0)).isEqualTo(Instant.parse("2024-12-10T08:01:00Z"));
+        assertThat(slots.get(1)).isEqualTo(Instant.parse("2024-12-10T08:01:01Z"));
+        assertThat(slots.get(60)).isEqualTo(Instant.parse("2024-12-10T08:02:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for quota and keep the interrupt flag when the thread is interrupted")
+    void shouldStopWaitingWhenInterrupted() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(0L, 8L, 3L, 1_000L, 1_000L));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThat(gateway.tryAcquire(Duration.ofSeconds(60))).isFalse();
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the local budget and stop calling Redis while it is down")
+    void shouldFallBackToLocalBudgetWhenRedisIsDown() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        assertThat(gateway.tryAcquire()).isTrue();
+        assertThat(gateway.tryAcquire()).isFalse();
+
+        verify(redisTemplate, times(1)).execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return unused leased tokens to the windows they came from once the lease expires")
+    void shouldRefundExpiredLease() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(10L, 7L, 3L, 60_000L, 0L))
+                .thenReturn(List.of(0L, 8L, 3L, 60_000L, 60_000L));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        clock.advance(Duration.ofSeconds(6));
+
+        assertThat(gateway.tryAcquire()).isFalse();
+        verify(redisTemplate).execute(refundScript, KEYS, "9", "7", "3");
+        verify(redisTemplate, times(2)).execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should end the lease with the minute window so its tokens never spill into the next one")
+    void shouldEndLeaseWithMinuteWindow() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(10L, 7L, 3L, 1_000L, 0L))
+                .thenReturn(List.of(10L, 8L, 3L, 60_000L, 0L));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        clock.advance(Duration.ofMillis(1_500));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        verify(redisTemplate).execute(refundScript, KEYS, "9", "7", "3");
+    }
+
+    @Test
+    @DisplayName("Should return the current lease to Redis on shutdown")
+    void shouldRefundLeaseOnClose() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(10L, 7L, 3L, 60_000L, 0L));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        gateway.close();
+        gateway.close();
+
+        verify(redisTemplate, times(1)).execute(refundScript, KEYS, "9", "7", "3");
+    }
+
+    @Test
+    @DisplayName("Should not call Redis to refund a lease granted by the local fallback")
+    void shouldNotRefundFallbackLease() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertThat(gateway.tryAcquire()).isTrue();
+        gateway.close();
+
+        verify(redisTemplate, never()).execute(eq(refundScript), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cap the local fallback budget per day as well as per minute")
+    void shouldCapFallbackPerDay() {
+        when(redisTemplate.execute(eq(quotaScript), eq(KEYS), any(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        int granted = 0;
+        for (int minute = 0; minute < 10; minute++) {
+            while (gateway.tryAcquire()) {
+                granted++;
+            }
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        assertThat(granted).isEqualTo(3);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-12-10T08:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package studiozero.service.email.quota;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import redis.embedded.RedisServer;
+import studiozero.service.email.infrastructure.gateways.RedisSendQuotaGateway;
+import studiozero.service.email.infrastructure.ratelimit.LocalWindowCounter;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("send-quota.lua Tests")
+class SendQuotaScriptTest {
+    private static final List<String> KEYS = List.of("{test-quota}:minute", "{test-quota}:day");
+
+    // ======= Janela longa: o teste não cruza uma virada de minuto ===== //
+    private static final long LONG_WINDOW = Duration.ofDays(36500).toMillis();
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisScript<List<Long>> quotaScript;
+    private static RedisScript<Long> refundScript;
+
+    @BeforeAll
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        quotaScript = (RedisScript) RedisScript.of(new ClassPathResource("scripts/send-quota.lua"), List.class);
+        refundScript = RedisScript.of(new ClassPathResource("scripts/refund-quota.lua"), Long.class);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void clearCounters() {
+        Set<String> keys = redisTemplate.keys("{test-quota}:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("Should grant tokens up to the per-minute capacity and then deny")
+    void shouldEnforcePerMinuteCapacity() {
+        assertThat(take(10, 25, 2000)).isEqualTo(10);
+        assertThat(take(10, 25, 2000)).isEqualTo(10);
+        assertThat(take(10, 25, 2000)).isEqualTo(5);
+        assertThat(take(10, 25, 2000)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should let the daily capacity cap grants below the per-minute one")
+    void shouldEnforceDailyCapacity() {
+        assertThat(take(10, 60, 12)).isEqualTo(10);
+        assertThat(take(10, 60, 12)).isEqualTo(2);
+        assertThat(take(10, 60, 12)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report when the exhausted limit reopens: the minute window or the day window")
+    void shouldReportWhenQuotaReopens() {
+        long minuteWindow = 60_000;
+
+        List<Long> minuteExhausted = execute(10, 10, 2000, minuteWindow, LONG_WINDOW);
+        assertThat(minuteExhausted.get(4)).isEqualTo(minuteExhausted.get(3)).isPositive();
+
+        clearCounters();
+        List<Long> dayExhausted = execute(10, 60, 10, minuteWindow, LONG_WINDOW);
+        assertThat(dayExhausted.get(4)).isGreaterThan(minuteWindow);
+
+        clearCounters();
+        assertThat(execute(1, 60, 2000, minuteWindow, LONG_WINDOW).get(4)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never grant more than the quota inside any window, even after time passes")
+    void shouldKeepEveryWindowWithinQuota() throws InterruptedException {
+        long minuteWindow = 200;
+        long dayWindow = 1_000;
+        Map<Long, Long> grantedPerMinute = new HashMap<>();
+        Map<Long, Long> grantedPerDay = new HashMap<>();
+
+        long deadline = System.currentTimeMillis() + 2_500;
+        while (System.currentTimeMillis() < deadline) {
+            List<Long> result = execute(3, 5, 12, minuteWindow, dayWindow);
+            grantedPerMinute.merge(result.get(1), result.get(0), Long::sum);
+            grantedPerDay.merge(result.get(2), result.get(0), Long::sum);
+            Thread.sleep(10);
+        }
+
+        assertThat(grantedPerMinute.values()).allSatisfy(granted -> assertThat(granted).isLessThanOrEqualTo(5));
+        assertThat(grantedPerDay.values()).allSatisfy(granted -> assertThat(granted).isLessThanOrEqualTo(12));
+        assertThat(grantedPerDay.values()).contains(12L);
+        assertThat(grantedPerDay).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should expire the counters when their window ends")
+    void shouldExpireCountersAtWindowEnd() {
+        List<Long> result = execute(1, 60, 2000, 60_000, LONG_WINDOW);
+
+        long minuteTtl = redisTemplate.getExpire(KEYS.get(0) + ":" + result.get(1), TimeUnit.MILLISECONDS);
+        assertThat(minuteTtl).isPositive().isLessThanOrEqualTo(60_000);
+        assertThat(redisTemplate.getExpire(KEYS.get(1) + ":" + result.get(2))).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should return refunded tokens to the same windows without going below zero")
+    void shouldRefundIntoOriginalWindows() {
+        List<Long> result = execute(10, 60, 2000, LONG_WINDOW, LONG_WINDOW);
+
+        assertThat(refund(4, result.get(1), result.get(2))).isEqualTo(4);
+        assertThat(redisTemplate.opsForValue().get(KEYS.get(0) + ":" + result.get(1))).isEqualTo("6");
+        assertThat(redisTemplate.opsForValue().get(KEYS.get(1) + ":" + result.get(2))).isEqualTo("6");
+
+        assertThat(refund(50, result.get(1), result.get(2))).isEqualTo(6);
+        assertThat(redisTemplate.opsForValue().get(KEYS.get(1) + ":" + result.get(2))).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("Should ignore refunds for windows that already ended")
+    void shouldIgnoreRefundForEndedWindow() {
+        assertThat(refund(5, 1, 1)).isZero();
+        assertThat(redisTemplate.hasKey(KEYS.get(1) + ":1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should share one budget between replicas leasing through the gateway")
+    void shouldShareBudgetBetweenReplicas() {
+        RedisSendQuotaGateway replicaA = gateway();
+        RedisSendQuotaGateway replicaB = gateway();
+
+        int granted = 0;
+        for (int i = 0; i < 20; i++) {
+            granted += replicaA.tryAcquire() ? 1 : 0;
+            granted += replicaB.tryAcquire() ? 1 : 0;
+        }
+
+        assertThat(granted).isEqualTo(30);
+    }
+
+    private long take(int requested, long perMinute, long perDay) {
+        return execute(requested, perMinute, perDay, LONG_WINDOW, LONG_WINDOW).get(0);
+    }
+
+    private List<Long> execute(int requested, long perMinute, long perDay, long minuteWindow, long dayWindow) {
+        return redisTemplate.execute(quotaScript, KEYS, String.valueOf(requested), String.valueOf(perMinute),
+                String.valueOf(perDay), String.valueOf(minuteWindow), String.valueOf(dayWindow));
+    }
+
+    private long refund(int tokens, long minuteWindow, long dayWindow) {
+        Long refunded = redisTemplate.execute(refundScript, KEYS,
+                String.valueOf(tokens), String.valueOf(minuteWindow), String.valueOf(dayWindow));
+        return refunded == null ? -1 : refunded;
+    }
+
+    private RedisSendQuotaGateway gateway() {
+        Clock clock = Clock.systemUTC();
+        return new RedisSendQuotaGateway(
+                redisTemplate,
+                quotaScript,
+                refundScript,
+                "test-quota",
+                2000,
+                30,
+                4,
+                Duration.ofMinutes(1),
+                new LocalWindowCounter(0, Duration.ofMinutes(1), clock),
+                new LocalWindowCounter(0, Duration.ofDays(1), clock),
+                Duration.ofSeconds(30),
+                Duration.ofMillis(1),
+                clock
+        );
+    }
+}
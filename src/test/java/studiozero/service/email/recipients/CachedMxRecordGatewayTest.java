@@ -0,0 +1,78 @@
+package studiozero.service.email.recipients;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+import studiozero.service.email.infrastructure.gateways.CachedMxRecordGateway;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedMxRecordGateway Tests")
+class CachedMxRecordGatewayTest {
+
+    @Mock
+    private MxRecordRepository mxRecordRepository;
+
+    @Test
+    @DisplayName("Should serve MX lookups from cache until the TTL expires")
+    void shouldCacheMxLookupsUntilTtlExpires() {
+        MutableClock clock = new MutableClock();
+        when(mxRecordRepository.hasMxRecord("example.com")).thenReturn(true);
+        CachedMxRecordGateway cached = new CachedMxRecordGateway(mxRecordRepository, Duration.ofMinutes(5), 100, clock);
+
+        cached.hasMxRecord("example.com");
+        cached.hasMxRecord("example.com");
+        verify(mxRecordRepository, times(1)).hasMxRecord("example.com");
+
+        clock.advance(Duration.ofMinutes(6));
+        cached.hasMxRecord("example.com");
+        verify(mxRecordRepository, times(2)).hasMxRecord("example.com");
+    }
+
+    @Test
+    @DisplayName("Should accept the recipient without caching when the resolver fails")
+    void shouldFailOpenWhenResolverFails() {
+        when(mxRecordRepository.hasMxRecord("example.com")).thenThrow(new IllegalStateException("timeout"));
+        CachedMxRecordGateway cached = new CachedMxRecordGateway(mxRecordRepository, Duration.ofMinutes(5), 100, new MutableClock());
+
+        assertThat(cached.hasMxRecord("example.com")).isTrue();
+        assertThat(cached.hasMxRecord("example.com")).isTrue();
+        verify(mxRecordRepository, times(2)).hasMxRecord("example.com");
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-12-10T08:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
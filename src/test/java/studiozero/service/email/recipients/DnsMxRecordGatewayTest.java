@@ -0,0 +1,78 @@
+package studiozero.service.email.recipients;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studiozero.service.email.infrastructure.gateways.DnsMxRecordGateway;
+
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+import javax.naming.directory.Attributes;
+import javax.naming.directory.BasicAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DnsMxRecordGateway Tests")
+class DnsMxRecordGatewayTest {
+
+    @Test
+    @DisplayName("Should accept a domain with an MX record without querying its address")
+    void shouldAcceptDomainWithMxRecord() {
+        StubDnsGateway gateway = new StubDnsGateway(Map.of("MX", "10 mail.example.com."));
+
+        assertThat(gateway.hasMxRecord("example.com")).isTrue();
+        assertThat(gateway.queries).containsExactly("MX");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the A/AAAA record when the domain has no MX record")
+    void shouldFallBackToAddressRecordWithoutMx() {
+        StubDnsGateway gateway = new StubDnsGateway(Map.of("AAAA", "2001:db8::1"));
+
+        assertThat(gateway.hasMxRecord("example.com")).isTrue();
+        assertThat(gateway.queries).containsExactly("MX", "A,AAAA");
+    }
+
+    @Test
+    @DisplayName("Should reject a domain with neither MX nor address records")
+    void shouldRejectDomainWithoutMxOrAddress() {
+        StubDnsGateway gateway = new StubDnsGateway(Map.of());
+
+        assertThat(gateway.hasMxRecord("example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject a domain that does not exist")
+    void shouldRejectUnknownDomain() {
+        StubDnsGateway gateway = new StubDnsGateway(null);
+
+        assertThat(gateway.hasMxRecord("example.invalid")).isFalse();
+    }
+
+    private static class StubDnsGateway extends DnsMxRecordGateway {
+        private final Map<String, String> records;
+        private final List<String> queries = new ArrayList<>();
+
+        StubDnsGateway(Map<String, String> records) {
+            super(2000);
+            this.records = records;
+        }
+
+        @Override
+        protected Attributes lookup(String domain, String[] types) throws NamingException {
+            queries.add(String.join(",", types));
+            if (records == null) {
+                throw new NameNotFoundException(domain);
+            }
+            Attributes attributes = new BasicAttributes(true);
+            for (String type : types) {
+                if (records.containsKey(type)) {
+                    attributes.put(type, records.get(type));
+                }
+            }
+            return attributes;
+        }
+    }
+}
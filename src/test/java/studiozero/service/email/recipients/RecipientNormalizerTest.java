@@ -0,0 +1,117 @@
+package studiozero.service.email.recipients;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studiozero.service.email.application.services.RecipientNormalizer;
+import studiozero.service.email.domain.repositories.MxRecordRepository;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecipientNormalizer Tests")
+class RecipientNormalizerTest {
+
+    @Mock
+    private MxRecordRepository mxRecordRepository;
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    @Test
+    @DisplayName("Should trim, lowercase and dedupe recipients keeping the original order")
+    void shouldNormalizeAndDedupeRecipients() {
+        RecipientNormalizer normalizer = new RecipientNormalizer(mxRecordRepository, false, suppressionRepository);
+
+        List<String> recipients = normalizer.normalize(List.of(
+                " Employee1@Example.com ",
+                "employee2@example.com",
+                "EMPLOYEE1@example.com"
+        ));
+
+        assertThat(recipients).containsExactly("employee1@example.com", "employee2@example.com");
+        verify(mxRecordRepository, never()).hasMxRecord(anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject null, blank and syntactically invalid addresses")
+    void shouldRejectInvalidAddresses() {
+        RecipientNormalizer normalizer = new RecipientNormalizer(mxRecordRepository, false, suppressionRepository);
+
+        List<String> recipients = normalizer.normalize(Arrays.asList(
+                null,
+                "   ",
+                "no-at-sign.example.com",
+                "double@@example.com",
+                "trailing-dot.@example.com",
+                "user@localhost",
+                "valid@example.com"
+        ));
+
+        assertThat(recipients).containsExactly("valid@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject recipients whose domain has no MX records when the check is enabled")
+    void shouldRejectDomainsWithoutMxRecords() {
+        when(mxRecordRepository.hasMxRecord("example.com")).thenReturn(true);
+        when(mxRecordRepository.hasMxRecord("nomx.example")).thenReturn(false);
+        RecipientNormalizer normalizer = new RecipientNormalizer(mxRecordRepository, true, suppressionRepository);
+
+        List<String> recipients = normalizer.normalize(List.of(
+                "employee@example.com",
+                "employee@nomx.example"
+        ));
+
+        assertThat(recipients).containsExactly("employee@example.com");
+    }
+
+    @Test
+    @DisplayName("Should skip suppressed recipients before any MX lookup")
+    void shouldSkipSuppressedRecipients() {
+        when(suppressionRepository.isSuppressed("bounced@example.com")).thenReturn(true);
+        when(mxRecordRepository.hasMxRecord("example.com")).thenReturn(true);
+        RecipientNormalizer normalizer = new RecipientNormalizer(mxRecordRepository, true, suppressionRepository);
+
+        List<String> recipients = normalizer.normalize(List.of("Bounced@example.com", "employee@example.com"));
+
+        assertThat(recipients).containsExactly("employee@example.com");
+        verify(mxRecordRepository, times(1)).hasMxRecord("example.com");
+    }
+
+    @Test
+    @DisplayName("Should accept internationalized domains with punycode TLDs")
+    void shouldAcceptPunycodeTlds() {
+        RecipientNormalizer normalizer = new RecipientNormalizer(mxRecordRepository, false, suppressionRepository);
+
+        List<String> recipients = normalizer.normalize(List.of(
+                "employee@xn--80ak6aa92e.xn--p1ai",
+                "employee@example.xn--90ais",
+                "employee@example.123",
+                "employee@example.com-"
+        ));
+
+        assertThat(recipients).containsExactly("employee@xn--80ak6aa92e.xn--p1ai", "employee@example.xn--90ais");
+    }
+
+    @Test
+    @DisplayName("Should expose the same syntax check for normalized addresses outside the send path")
+    void shouldValidateNormalizedAddresses() {
+        assertThat(RecipientNormalizer.isValid("employee@example.com")).isTrue();
+        assertThat(RecipientNormalizer.isValid("employee@xn--80ak6aa92e.xn--p1ai")).isTrue();
+        assertThat(RecipientNormalizer.isValid("not-an-email")).isFalse();
+        assertThat(RecipientNormalizer.isValid("employee@example")).isFalse();
+        assertThat(RecipientNormalizer.isValid(null)).isFalse();
+    }
+}
@@ -0,0 +1,208 @@
+package studiozero.service.email.scaling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import studiozero.service.email.infrastructure.configs.async.AsyncConfig;
+import studiozero.service.email.infrastructure.consumer.EmailConsumer;
+import studiozero.service.email.infrastructure.metrics.SendMetrics;
+import studiozero.service.email.infrastructure.scaling.ConcurrencyAutoscaler;
+import studiozero.service.email.infrastructure.scaling.HysteresisScaler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyAutoscaler Tests")
+class ConcurrencyAutoscalerTest {
+    private static final String QUEUE = "daily-email";
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private ThreadPoolTaskExecutor emailSenderTaskExecutor;
+
+    @Mock
+    private SimpleMessageListenerContainer listenerContainer;
+
+    private final ArrayBlockingQueue<Runnable> senderQueue = new ArrayBlockingQueue<>(10);
+    private SendMetrics sendMetrics;
+    private ConcurrencyAutoscaler autoscaler;
+
+    @BeforeEach
+    void setUp() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, senderQueue);
+        lenient().when(emailSenderTaskExecutor.getThreadPoolExecutor()).thenReturn(pool);
+        lenient().when(listenerRegistry.getListenerContainer(EmailConsumer.LISTENER_ID)).thenReturn(listenerContainer);
+        lenient().when(listenerContainer.isRunning()).thenReturn(true);
+
+        sendMetrics = new SendMetrics();
+        autoscaler = new ConcurrencyAutoscaler(listenerRegistry, amqpAdmin, emailSenderTaskExecutor, sendMetrics,
+                new HysteresisScaler(1, 5, 1, 1), new HysteresisScaler(5, 20, 1, 1),
+                QUEUE, 100, 10, 0.75, 0.10, 5_000, 100);
+    }
+
+    @Test
+    @DisplayName("Should raise max before core when growing the sender pool")
+    void shouldRaiseMaxBeforeCoreWhenGrowing() {
+        fillSenderQueue(9);
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+
+        autoscaler.adjustConcurrency();
+
+        InOrder order = inOrder(emailSenderTaskExecutor);
+        order.verify(emailSenderTaskExecutor).setMaxPoolSize(6);
+        order.verify(emailSenderTaskExecutor).setCorePoolSize(6);
+    }
+
+    @Test
+    @DisplayName("Should start the sender pool at the minimum and never lower its max when growing")
+    void shouldGrowConfiguredSenderPoolWithoutLosingMax() {
+        ThreadPoolTaskExecutor executor = new AsyncConfig().emailSenderTaskExecutor(5);
+        try {
+            assertThat(executor.getCorePoolSize()).isEqualTo(5);
+            assertThat(executor.getMaxPoolSize()).isEqualTo(5);
+            ConcurrencyAutoscaler realPool = new ConcurrencyAutoscaler(listenerRegistry, amqpAdmin, executor,
+                    sendMetrics, new HysteresisScaler(1, 5, 1, 1), new HysteresisScaler(5, 20, 1, 1),
+                    QUEUE, 100, 10, 0.75, 0.10, 5_000, 100);
+            CountDownLatch blocked = new CountDownLatch(1);
+            for (int i = 0; i < 5 + 30; i++) {
+                executor.execute(() -> awaitQuietly(blocked));
+            }
+
+            realPool.adjustConcurrency();
+            blocked.countDown();
+
+            assertThat(executor.getCorePoolSize()).isEqualTo(6);
+            assertThat(executor.getMaxPoolSize()).isEqualTo(6);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should lower core before max when shrinking the sender pool")
+    void shouldLowerCoreBeforeMaxWhenShrinking() {
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(8);
+
+        autoscaler.adjustConcurrency();
+
+        InOrder order = inOrder(emailSenderTaskExecutor);
+        order.verify(emailSenderTaskExecutor).setCorePoolSize(7);
+        order.verify(emailSenderTaskExecutor).setMaxPoolSize(7);
+    }
+
+    @Test
+    @DisplayName("Should not add sender threads while SMTP latency is above the limit")
+    void shouldVetoScaleUpWhenSmtpIsSlow() {
+        fillSenderQueue(9);
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+        sendMetrics.recordSend(TimeUnit.SECONDS.toNanos(10), true);
+
+        autoscaler.adjustConcurrency();
+
+        verify(emailSenderTaskExecutor, never()).setMaxPoolSize(anyInt());
+        verify(emailSenderTaskExecutor, never()).setCorePoolSize(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should hold sender and listener scale-up while sends are waiting on the quota")
+    void shouldHoldScaleUpWhileQuotaIsExhausted() {
+        fillSenderQueue(9);
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 500, 1));
+        when(listenerContainer.getActiveConsumerCount()).thenReturn(1);
+        sendMetrics.quotaWaitStarted();
+
+        autoscaler.adjustConcurrency();
+
+        verify(emailSenderTaskExecutor, never()).setMaxPoolSize(anyInt());
+        verify(listenerContainer, never()).setConcurrentConsumers(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should shrink the sender pool when the last window was spent waiting on the quota")
+    void shouldShrinkSendersAfterLongQuotaWaits() {
+        fillSenderQueue(9);
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(8);
+        sendMetrics.quotaWaitStarted();
+        sendMetrics.quotaWaitFinished(TimeUnit.SECONDS.toNanos(30));
+        sendMetrics.recordSend(TimeUnit.MILLISECONDS.toNanos(200), true);
+
+        autoscaler.adjustConcurrency();
+
+        verify(emailSenderTaskExecutor).setCorePoolSize(7);
+    }
+
+    @Test
+    @DisplayName("Should add one listener consumer when the queue is deep")
+    void shouldStepListenerUpWhenQueueIsDeep() {
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 500, 1));
+        when(listenerContainer.getActiveConsumerCount()).thenReturn(1);
+
+        autoscaler.adjustConcurrency();
+
+        verify(listenerContainer).setConcurrentConsumers(2);
+    }
+
+    @Test
+    @DisplayName("Should remove one listener consumer when the queue is drained")
+    void shouldStepListenerDownWhenQueueIsDrained() {
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 0, 3));
+        when(listenerContainer.getActiveConsumerCount()).thenReturn(3);
+
+        autoscaler.adjustConcurrency();
+
+        verify(listenerContainer).setConcurrentConsumers(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the listener alone when the queue depth cannot be sampled")
+    void shouldSkipListenerWhenBrokerIsUnavailable() {
+        when(emailSenderTaskExecutor.getCorePoolSize()).thenReturn(5);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenThrow(new IllegalStateException("connection refused"));
+
+        autoscaler.adjustConcurrency();
+
+        verify(listenerContainer, never()).setConcurrentConsumers(anyInt());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fillSenderQueue(int tasks) {
+        for (int i = 0; i < tasks; i++) {
+            senderQueue.add(() -> { });
+        }
+    }
+}
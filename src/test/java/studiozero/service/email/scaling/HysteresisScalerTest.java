@@ -0,0 +1,62 @@
+package studiozero.service.email.scaling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studiozero.service.email.infrastructure.scaling.HysteresisScaler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HysteresisScaler Tests")
+class HysteresisScalerTest {
+
+    @Test
+    @DisplayName("Should scale up only after consecutive overloaded samples")
+    void shouldScaleUpAfterConsecutiveOverloadedSamples() {
+        HysteresisScaler scaler = new HysteresisScaler(1, 5, 2, 3);
+
+        assertThat(scaler.next(1, true, false)).isEqualTo(1);
+        assertThat(scaler.next(1, true, false)).isEqualTo(2);
+        assertThat(scaler.next(2, true, false)).isEqualTo(2);
+        assertThat(scaler.next(2, true, false)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reset the streak when a sample breaks it")
+    void shouldResetStreakWhenSignalChanges() {
+        HysteresisScaler scaler = new HysteresisScaler(1, 5, 2, 3);
+
+        assertThat(scaler.next(1, true, false)).isEqualTo(1);
+        assertThat(scaler.next(1, false, false)).isEqualTo(1);
+        assertThat(scaler.next(1, true, false)).isEqualTo(1);
+        assertThat(scaler.next(1, true, false)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should scale down after idle samples and never leave the bounds")
+    void shouldScaleDownWithinBounds() {
+        HysteresisScaler scaler = new HysteresisScaler(2, 3, 1, 2);
+
+        assertThat(scaler.next(3, true, false)).isEqualTo(3);
+        assertThat(scaler.next(3, false, true)).isEqualTo(3);
+        assertThat(scaler.next(3, false, true)).isEqualTo(2);
+        assertThat(scaler.next(2, false, true)).isEqualTo(2);
+        assertThat(scaler.next(2, false, true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should clamp a current value outside the configured bounds")
+    void shouldClampCurrentValue() {
+        HysteresisScaler scaler = new HysteresisScaler(2, 4, 5, 5);
+
+        assertThat(scaler.next(10, false, false)).isEqualTo(4);
+        assertThat(scaler.next(0, false, false)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid bounds")
+    void shouldRejectInvalidBounds() {
+        assertThatThrownBy(() -> new HysteresisScaler(5, 2, 1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
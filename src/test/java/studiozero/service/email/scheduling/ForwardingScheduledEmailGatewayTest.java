@@ -0,0 +1,64 @@
+package studiozero.service.email.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.gateways.ForwardingScheduledEmailGateway;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ForwardingScheduledEmailGateway Tests")
+class ForwardingScheduledEmailGatewayTest {
+    private static final String QUEUE = "studiozero.scheduled-email";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private ForwardingScheduledEmailGateway gateway;
+    private ConsumeEmailEventDto eventDto;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new ForwardingScheduledEmailGateway(rabbitTemplate, QUEUE, 5_000);
+        eventDto = new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of());
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    @Test
+    @DisplayName("Should publish the event to the scheduled queue and wait for the broker confirm")
+    void shouldPublishAndWaitForConfirm() {
+        gateway.schedule(eventDto, Instant.parse("2099-01-01T08:00:00Z"));
+
+        var order = inOrder(operations);
+        order.verify(operations).convertAndSend("", QUEUE, eventDto);
+        order.verify(operations).waitForConfirmsOrDie(5_000);
+    }
+
+    @Test
+    @DisplayName("Should fail when the broker does not confirm, so the original message is requeued")
+    void shouldFailWithoutConfirm() {
+        doThrow(new AmqpTimeoutException("no confirm")).when(operations).waitForConfirmsOrDie(5_000);
+
+        assertThatThrownBy(() -> gateway.schedule(eventDto, Instant.parse("2099-01-01T08:00:00Z")))
+                .isInstanceOf(AmqpTimeoutException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package studiozero.service.email.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import studiozero.service.email.infrastructure.scheduling.HierarchicalTimingWheel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Should release an item only once its deadline is reached")
+    void shouldReleaseItemAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 8, 3, START);
+        List<String> released = new ArrayList<>();
+        wheel.schedule("email", START + 5_000);
+
+        wheel.advance(START + 4_999, released::add);
+        assertThat(released).isEmpty();
+
+        wheel.advance(START + 5_000, released::add);
+        assertThat(released).containsExactly("email");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release overdue items on the next advance")
+    void shouldReleaseOverdueItemsImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 8, 3, START);
+        List<String> released = new ArrayList<>();
+        wheel.schedule("late", START - 60_000);
+
+        wheel.advance(START, released::add);
+
+        assertThat(released).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("Should cascade items from higher levels and beyond the horizon")
+    void shouldCascadeItemsAcrossLevels() {
+        // 8 slots x 3 níveis com tick de 1s => horizonte de 512s
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 8, 3, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = START + random.nextInt(2_000) * 1_000L;
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> released = new ArrayList<>();
+        for (long now = START; now <= START + 2_000_000L; now += 1_000) {
+            long tickNow = now;
+            wheel.advance(now, deadline -> {
+                assertThat(deadline).isLessThanOrEqualTo(tickNow);
+                assertThat(deadline).isGreaterThan(tickNow - 1_000);
+                released.add(deadline);
+            });
+        }
+
+        assertThat(released).containsExactlyInAnyOrderElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should catch up when advanced over a long gap")
+    void shouldCatchUpAfterLongGap() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 8, 3, START);
+        List<String> released = new ArrayList<>();
+        wheel.schedule("first", START + 10_000);
+        wheel.schedule("second", START + 400_000);
+
+        int count = wheel.advance(START + 3_600_000, released::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(released).containsExactly("first", "second");
+    }
+}
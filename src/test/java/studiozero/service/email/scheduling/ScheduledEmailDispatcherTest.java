@@ -0,0 +1,219 @@
+package studiozero.service.email.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+import studiozero.service.email.infrastructure.consumer.ConsumeEmailEventDto;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailEntity;
+import studiozero.service.email.infrastructure.persistence.ScheduledEmailJpaRepository;
+import studiozero.service.email.infrastructure.persistence.ScheduledSend;
+import studiozero.service.email.infrastructure.scheduling.HierarchicalTimingWheel;
+import studiozero.service.email.infrastructure.scheduling.ScheduledEmailDispatcher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledEmailDispatcher Tests")
+class ScheduledEmailDispatcherTest {
+    private static final String INSTANCE = "replica-a";
+    private static final long CLAIM_TIMEOUT = 600_000;
+    private static final long ORPHAN_GRACE = 60_000;
+    private static final String QUEUE = "daily-email";
+
+    @Mock
+    private ScheduledEmailJpaRepository scheduledEmailJpaRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations operations;
+
+    private HierarchicalTimingWheel<Long> wheel;
+    private ScheduledEmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 64, 4, System.currentTimeMillis() - 60_000);
+        dispatcher = new ScheduledEmailDispatcher(wheel, scheduledEmailJpaRepository, rabbitTemplate, QUEUE,
+                100, INSTANCE, CLAIM_TIMEOUT, ORPHAN_GRACE, 5_000);
+        lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations));
+    }
+
+    @Test
+    @DisplayName("Should page through every pending row on recovery and load it into the wheel")
+    void shouldRecoverAllPendingRows() {
+        Instant due = Instant.now().minusSeconds(30);
+        List<ScheduledSend> firstPage = LongStream.rangeClosed(1, 5_000)
+                .mapToObj(id -> new ScheduledSend(id, due)).toList();
+        when(scheduledEmailJpaRepository.findPendingAfter(eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(scheduledEmailJpaRepository.findPendingAfter(eq(5_000L), any(Pageable.class)))
+                .thenReturn(List.of(new ScheduledSend(5_001L, due)));
+
+        dispatcher.recoverPendingEmails();
+
+        assertThat(wheel.size()).isEqualTo(5_001);
+    }
+
+    @Test
+    @DisplayName("Should publish and delete only the rows this instance managed to claim")
+    void shouldReleaseOnlyClaimedRows() {
+        ConsumeEmailEventDto event = new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of());
+        ScheduledEmailEntity claimed = entity(1L, event);
+        wheel.schedule(1L, System.currentTimeMillis() - 1_000);
+        wheel.schedule(2L, System.currentTimeMillis() - 1_000);
+        when(scheduledEmailJpaRepository.findClaimed(anyCollection(), eq(INSTANCE))).thenReturn(List.of(claimed));
+        when(scheduledEmailJpaRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+
+        dispatcher.releaseDueEmails();
+
+        verify(scheduledEmailJpaRepository).claim(anyCollection(), eq(INSTANCE), any(Instant.class), any(Instant.class));
+        var order = inOrder(operations, scheduledEmailJpaRepository);
+        order.verify(operations, times(1)).convertAndSend("", QUEUE, event);
+        order.verify(operations).waitForConfirmsOrDie(5_000);
+        ArgumentCaptor<Collection<Long>> deleted = idsCaptor();
+        order.verify(scheduledEmailJpaRepository).deleteClaimed(deleted.capture(), eq(INSTANCE));
+        assertThat(deleted.getValue()).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish a released event without its sendAt so no replica schedules it again")
+    void shouldStripSendAtWhenReleasing() {
+        ConsumeEmailEventDto stored = new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of(),
+                OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1));
+        ScheduledEmailEntity claimed = entity(1L, stored);
+        wheel.schedule(1L, System.currentTimeMillis() - 1_000);
+        when(scheduledEmailJpaRepository.findClaimed(anyCollection(), eq(INSTANCE))).thenReturn(List.of(claimed));
+
+        dispatcher.releaseDueEmails();
+
+        verify(operations, times(1)).convertAndSend("", QUEUE,
+                new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of()));
+    }
+
+    @Test
+    @DisplayName("Should not send rows claimed by another replica and recheck them after the claim timeout")
+    void shouldRecheckRowsClaimedElsewhere() {
+        wheel.schedule(7L, System.currentTimeMillis() - 1_000);
+        when(scheduledEmailJpaRepository.findClaimed(anyCollection(), eq(INSTANCE))).thenReturn(List.of());
+        when(scheduledEmailJpaRepository.findExistingIds(anyCollection())).thenReturn(List.of(7L));
+
+        dispatcher.releaseDueEmails();
+
+        verify(rabbitTemplate, never()).invoke(any());
+        verify(scheduledEmailJpaRepository, never()).deleteClaimed(anyCollection(), any());
+        assertThat(wheel.size()).isEqualTo(1);
+
+        List<Long> released = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis() + CLAIM_TIMEOUT + 1_000, released::add);
+        assertThat(released).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Should only query the database when something is due")
+    void shouldSkipDatabaseWhenNothingIsDue() {
+        wheel.schedule(1L, System.currentTimeMillis() + 3_600_000);
+
+        dispatcher.releaseDueEmails();
+
+        verify(scheduledEmailJpaRepository, never())
+                .claim(anyCollection(), any(), any(Instant.class), any(Instant.class));
+        verify(scheduledEmailJpaRepository, never()).findClaimed(anyCollection(), any());
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep claimed rows when the broker does not confirm, leaving them for the sweep")
+    void shouldKeepRowsWithoutConfirm() {
+        ConsumeEmailEventDto event = new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of());
+        ScheduledEmailEntity claimed = entity(1L, event);
+        wheel.schedule(1L, System.currentTimeMillis() - 1_000);
+        when(scheduledEmailJpaRepository.findClaimed(anyCollection(), eq(INSTANCE))).thenReturn(List.of(claimed));
+        doThrow(new AmqpTimeoutException("no confirm")).when(operations).waitForConfirmsOrDie(5_000);
+
+        dispatcher.releaseDueEmails();
+
+        verify(scheduledEmailJpaRepository, never()).deleteClaimed(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("Should put overdue unclaimed or stale-claimed rows back into the wheel")
+    void shouldSweepOrphanedRows() {
+        long before = System.currentTimeMillis();
+        when(scheduledEmailJpaRepository.findOrphaned(any(Instant.class), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(new ScheduledSend(3L, Instant.now().minusSeconds(600))));
+
+        dispatcher.sweepOrphanedEmails();
+
+        ArgumentCaptor<Instant> dueBefore = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> staleBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(scheduledEmailJpaRepository).findOrphaned(dueBefore.capture(), staleBefore.capture(), any(Pageable.class));
+        assertThat(dueBefore.getValue().toEpochMilli()).isBetween(before - ORPHAN_GRACE, System.currentTimeMillis() - ORPHAN_GRACE);
+        assertThat(staleBefore.getValue().toEpochMilli()).isBetween(before - CLAIM_TIMEOUT, System.currentTimeMillis() - CLAIM_TIMEOUT);
+
+        List<Long> released = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis() + 1_000, released::add);
+        assertThat(released).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should release an id only once when the sweep re-adds one that is already due")
+    void shouldNotReleaseDuplicateIdsTwice() {
+        ScheduledEmailDispatcher oneAtATime = new ScheduledEmailDispatcher(wheel, scheduledEmailJpaRepository,
+                rabbitTemplate, QUEUE, 1, INSTANCE, CLAIM_TIMEOUT, ORPHAN_GRACE, 5_000);
+        ConsumeEmailEventDto event = new ConsumeEmailEventDto(List.of("employee@example.com"), List.of(), List.of());
+        ScheduledEmailEntity claimed = entity(1L, event);
+        wheel.schedule(1L, System.currentTimeMillis() - 1_000);
+        wheel.schedule(1L, System.currentTimeMillis() - 500);
+        when(scheduledEmailJpaRepository.findClaimed(anyCollection(), eq(INSTANCE))).thenReturn(List.of(claimed));
+
+        oneAtATime.releaseDueEmails();
+        oneAtATime.releaseDueEmails();
+
+        verify(scheduledEmailJpaRepository, times(1))
+                .claim(anyCollection(), eq(INSTANCE), any(Instant.class), any(Instant.class));
+        verify(operations, times(1)).convertAndSend("", QUEUE, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<Collection<Long>> idsCaptor() {
+        return ArgumentCaptor.forClass(Collection.class);
+    }
+
+    private static ScheduledEmailEntity entity(long id, ConsumeEmailEventDto event) {
+        ScheduledEmailEntity entity = mock(ScheduledEmailEntity.class);
+        when(entity.getId()).thenReturn(id);
+        when(entity.getEvent()).thenReturn(event);
+        return entity;
+    }
+}
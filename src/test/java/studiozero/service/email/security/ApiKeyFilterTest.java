@@ -0,0 +1,107 @@
+package studiozero.service.email.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import studiozero.service.email.application.usecases.SendDailyEmailUseCase;
+import studiozero.service.email.domain.repositories.SuppressionRepository;
+import studiozero.service.email.infrastructure.controllers.BulkEmailController;
+import studiozero.service.email.infrastructure.controllers.SuppressionController;
+import studiozero.service.email.infrastructure.security.ApiKeyFilter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiKeyFilter Tests")
+class ApiKeyFilterTest {
+    private static final String BODY = "{\"to\":[\"employee@example.com\"],\"subJobs\":[],\"tasks\":[]}\n";
+
+    @Mock
+    private SendDailyEmailUseCase sendDailyEmailUseCase;
+
+    @Mock
+    private SuppressionRepository suppressionRepository;
+
+    @Test
+    @DisplayName("Should refuse requests without the API key header")
+    void shouldRefuseMissingKey() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(post("/emails/bulk").contentType(MediaType.APPLICATION_NDJSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(sendDailyEmailUseCase);
+    }
+
+    @Test
+    @DisplayName("Should refuse requests with a wrong API key")
+    void shouldRefuseWrongKey() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(post("/emails/bulk").header(ApiKeyFilter.HEADER, "guess")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(sendDailyEmailUseCase);
+    }
+
+    @Test
+    @DisplayName("Should refuse every request when no API key is configured")
+    void shouldFailClosedWithoutConfiguredKey() throws Exception {
+        MockMvc mockMvc = mockMvc("");
+
+        mockMvc.perform(post("/emails/bulk").header(ApiKeyFilter.HEADER, "")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(BODY))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(sendDailyEmailUseCase);
+    }
+
+    @Test
+    @DisplayName("Should let requests with the right API key through")
+    void shouldAcceptRightKey() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(post("/emails/bulk").header(ApiKeyFilter.HEADER, "s3cret")
+                        .contentType(MediaType.APPLICATION_NDJSON).content(BODY))
+                .andExpect(status().isAccepted());
+
+        verify(sendDailyEmailUseCase, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should protect the suppression endpoints as well")
+    void shouldProtectSuppressionEndpoints() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(post("/suppressions").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"employee@example.com\",\"reason\":\"manual\"}"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/suppressions/import").contentType(MediaType.TEXT_PLAIN).content("employee@example.com"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/suppressions/employee@example.com"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(suppressionRepository);
+    }
+
+    private MockMvc mockMvc(String apiKey) {
+        return MockMvcBuilders.standaloneSetup(
+                        new BulkEmailController(sendDailyEmailUseCase, new ObjectMapper()),
+                        new SuppressionController(suppressionRepository))
+                .addFilter(new ApiKeyFilter(apiKey), "/emails/*", "/suppressions", "/suppressions/*")
+                .build();
+    }
+}
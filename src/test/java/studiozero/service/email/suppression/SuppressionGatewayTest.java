@@ -0,0 +1,173 @@
+package studiozero.service.email.suppression;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import studiozero.service.email.infrastructure.gateways.SuppressionGateway;
+import studiozero.service.email.infrastructure.persistence.SuppressedRecipientEntity;
+import studiozero.service.email.infrastructure.persistence.SuppressedRecipientJpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SuppressionGateway Tests")
+class SuppressionGatewayTest {
+
+    @Mock
+    private SuppressedRecipientJpaRepository suppressedRecipientJpaRepository;
+
+    private SuppressionGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        gateway = new SuppressionGateway(suppressedRecipientJpaRepository, 1_000, 0.01, 60_000);
+        lenient().when(suppressedRecipientJpaRepository.findEmailsAfter(anyString(), any(Pageable.class)))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Should answer a filter miss without touching the database")
+    void shouldSkipDatabaseOnFilterMiss() {
+        when(suppressedRecipientJpaRepository.findEmailsAfter(eq(""), any(Pageable.class)))
+                .thenReturn(List.of("bounced@example.com"));
+        gateway.rebuild();
+
+        assertThat(gateway.isSuppressed("employee@example.com")).isFalse();
+        verify(suppressedRecipientJpaRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should confirm a filter hit against the database")
+    void shouldConfirmFilterHitInDatabase() {
+        when(suppressedRecipientJpaRepository.findEmailsAfter(eq(""), any(Pageable.class)))
+                .thenReturn(List.of("bounced@example.com"));
+        when(suppressedRecipientJpaRepository.existsById("bounced@example.com")).thenReturn(true);
+        gateway.rebuild();
+
+        assertThat(gateway.isSuppressed("bounced@example.com")).isTrue();
+        verify(suppressedRecipientJpaRepository).existsById("bounced@example.com");
+    }
+
+    @Test
+    @DisplayName("Should go to the database for every lookup until the first rebuild finishes")
+    void shouldUseDatabaseBeforeFirstRebuild() {
+        assertThat(gateway.isSuppressed("employee@example.com")).isFalse();
+
+        verify(suppressedRecipientJpaRepository).existsById("employee@example.com");
+    }
+
+    @Test
+    @DisplayName("Should keep an address suppressed during a rebuild that already scanned past it")
+    void shouldKeepAddressAddedDuringRebuild() {
+        when(suppressedRecipientJpaRepository.findEmailsAfter(eq(""), any(Pageable.class))).thenAnswer(invocation -> {
+            gateway.suppress("aaa@example.com", "hard-bounce");
+            return List.of("zzz@example.com");
+        });
+        when(suppressedRecipientJpaRepository.existsById("aaa@example.com")).thenReturn(true);
+
+        gateway.rebuild();
+
+        assertThat(gateway.isSuppressed("aaa@example.com")).isTrue();
+        verify(suppressedRecipientJpaRepository).existsById("aaa@example.com");
+    }
+
+    @Test
+    @DisplayName("Should pick up suppressions written by other replicas on the next sync")
+    void shouldSyncSuppressionsFromOtherReplicas() {
+        gateway.rebuild();
+        assertThat(gateway.isSuppressed("bounced@example.com")).isFalse();
+
+        when(suppressedRecipientJpaRepository.findCreatedAfter(any(Instant.class), eq(""), any(Pageable.class)))
+                .thenReturn(List.of(new SuppressedRecipientEntity("bounced@example.com", "hard-bounce", Instant.now())));
+        when(suppressedRecipientJpaRepository.existsById("bounced@example.com")).thenReturn(true);
+        gateway.syncRecent();
+
+        assertThat(gateway.isSuppressed("bounced@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not sync before the filter has been built")
+    void shouldNotSyncBeforeFirstRebuild() {
+        gateway.syncRecent();
+
+        verify(suppressedRecipientJpaRepository, never()).findCreatedAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should stop suppressing an address once it is removed, even though the filter still flags it")
+    void shouldStopSuppressingAfterUnsuppress() {
+        when(suppressedRecipientJpaRepository.findEmailsAfter(eq(""), any(Pageable.class)))
+                .thenReturn(List.of("employee@example.com"));
+        when(suppressedRecipientJpaRepository.existsById("employee@example.com")).thenReturn(true, false);
+        gateway.rebuild();
+
+        assertThat(gateway.unsuppress(" Employee@Example.com ")).isTrue();
+
+        verify(suppressedRecipientJpaRepository).deleteById("employee@example.com");
+        assertThat(gateway.isSuppressed("employee@example.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should insert only new addresses and leave already-suppressed ones untouched")
+    void shouldInsertOnlyNewAddresses() {
+        when(suppressedRecipientJpaRepository.findExistingEmails(anyCollection())).thenReturn(List.of("old@example.com"));
+
+        int inserted = gateway.suppressAll(List.of("old@example.com", "new@example.com", " NEW@example.com "), "import");
+
+        assertThat(inserted).isEqualTo(1);
+        ArgumentCaptor<List<SuppressedRecipientEntity>> saved = entitiesCaptor();
+        verify(suppressedRecipientJpaRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).singleElement().satisfies(entity -> {
+            assertThat(entity.getEmail()).isEqualTo("new@example.com");
+            assertThat(entity.isNew()).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should not write anything when every address is already suppressed")
+    void shouldSkipInsertWhenAllExist() {
+        when(suppressedRecipientJpaRepository.findExistingEmails(anyCollection())).thenReturn(List.of("old@example.com"));
+
+        assertThat(gateway.suppressAll(List.of("old@example.com"), "import")).isZero();
+
+        verify(suppressedRecipientJpaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should re-check and retry once when another replica inserts the same address concurrently")
+    void shouldRetryAfterConcurrentInsert() {
+        when(suppressedRecipientJpaRepository.findExistingEmails(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("bounced@example.com"));
+        when(suppressedRecipientJpaRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(gateway.suppressAll(List.of("bounced@example.com"), "hard-bounce")).isZero();
+
+        verify(suppressedRecipientJpaRepository, times(2)).findExistingEmails(anyCollection());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<SuppressedRecipientEntity>> entitiesCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}